@@ -0,0 +1,69 @@
+package tdd.args;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ArgsBenchmark {
+    @Param({"3", "24"})
+    int optionCount;
+
+    @Param({"0.0", "0.5", "1.0"})
+    double hitRatio;
+
+    @Param({"1", "100", "10000"})
+    int valueCount;
+
+    private Class<?> optionsClass;
+    private String[] arguments;
+
+    @Setup
+    public void setUp() {
+        optionsClass = optionCount == 3 ? SmallOptions.class : LargeOptions.class;
+        List<Integer> present = new ArrayList<>();
+        for (int i = 0; i < optionCount; i++) present.add(i);
+        Collections.shuffle(present, new Random(42));
+        present = present.subList(0, (int) Math.round(optionCount * hitRatio));
+
+        List<String> tokens = new ArrayList<>();
+        for (int option : present) {
+            switch (option % 3) {
+                case 0 -> tokens.add("-b" + option / 3);
+                case 1 -> tokens.addAll(List.of("-i" + option / 3, "8080"));
+                default -> {
+                    tokens.add("-s" + option / 3);
+                    for (int value = 0; value < valueCount; value++) tokens.add("value" + value);
+                }
+            }
+        }
+        arguments = tokens.toArray(String[]::new);
+    }
+
+    @Benchmark
+    public Object parse() {
+        return Args.parse(optionsClass, arguments);
+    }
+
+    record SmallOptions(@Option("b0") boolean b0, @Option("i0") int i0, @Option("s0") String[] s0) {
+    }
+
+    record LargeOptions(@Option("b0") boolean b0, @Option("i0") int i0, @Option("s0") String[] s0,
+                        @Option("b1") boolean b1, @Option("i1") int i1, @Option("s1") String[] s1,
+                        @Option("b2") boolean b2, @Option("i2") int i2, @Option("s2") String[] s2,
+                        @Option("b3") boolean b3, @Option("i3") int i3, @Option("s3") String[] s3,
+                        @Option("b4") boolean b4, @Option("i4") int i4, @Option("s4") String[] s4,
+                        @Option("b5") boolean b5, @Option("i5") int i5, @Option("s5") String[] s5,
+                        @Option("b6") boolean b6, @Option("i6") int i6, @Option("s6") String[] s6,
+                        @Option("b7") boolean b7, @Option("i7") int i7, @Option("s7") String[] s7) {
+    }
+}
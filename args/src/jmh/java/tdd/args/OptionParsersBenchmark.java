@@ -0,0 +1,73 @@
+package tdd.args;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class OptionParsersBenchmark {
+    private static final OptionParser<Boolean> BOOL = OptionParsers.bool();
+    private static final OptionParser<Integer> UNARY = OptionParsers.unary(0, Integer::parseInt);
+
+    @Param({"10", "200"})
+    int flagCount;
+
+    @Param({"true", "false"})
+    boolean hit;
+
+    private String[] tokens;
+    private Arguments arguments;
+    private Option boolOption;
+    private Option unaryOption;
+
+    @Setup
+    public void setUp() {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < flagCount; i++) {
+            tokens.add("-l" + i);
+            tokens.addAll(List.of("-p" + i, String.valueOf(8000 + i)));
+        }
+        this.tokens = tokens.toArray(String[]::new);
+        this.arguments = new Arguments(this.tokens);
+        int target = hit ? flagCount / 2 : flagCount;
+        boolOption = option("l" + target);
+        unaryOption = option("p" + target);
+    }
+
+    @Benchmark
+    public Arguments index() {
+        return arguments.reset(tokens);
+    }
+
+    @Benchmark
+    public boolean bool() {
+        return BOOL.parse(arguments, boolOption);
+    }
+
+    @Benchmark
+    public int unary() {
+        return UNARY.parse(arguments, unaryOption);
+    }
+
+    private static Option option(String value) {
+        return new Option() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return Option.class;
+            }
+
+            @Override
+            public String value() {
+                return value;
+            }
+        };
+    }
+}
@@ -1,38 +1,53 @@
 package tdd.args;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Parameter;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
+import java.util.stream.Stream;
 
 public class Args {
+    private static volatile ParseListener listener;
+
     public static <T> T parse(Class<T> optionsClass, String... args) {
+        return parse(schema(optionsClass), args);
+    }
+
+    public static void listen(ParseListener listener) {
+        Args.listener = listener;
+    }
+
+    static ParseListener listener() {
+        return listener;
+    }
+
+    public static <T> void register(Class<T> type, OptionParser<? extends T> parser) {
+        OptionParserRegistry.register(type, parser);
+        ArgsSchema.invalidate();
+    }
+
+    public static <T> Stream<ParseResult<T>> parseAll(Class<T> optionsClass, Stream<String[]> arguments) {
+        ArgsSchema<T> schema = schema(optionsClass);
+        return arguments.parallel().map(args -> {
+            try {
+                return ParseResult.parsed(args, parse(schema, args));
+            } catch (RuntimeException e) {
+                return ParseResult.failed(args, e);
+            }
+        });
+    }
+
+    public static <T> Stream<ParseResult<T>> parseAllUnordered(Class<T> optionsClass, Stream<String[]> arguments) {
+        return parseAll(optionsClass, arguments.unordered());
+    }
+
+    private static <T> ArgsSchema<T> schema(Class<T> optionsClass) {
+        return listener == null ? ArgsSchema.of(optionsClass) : ArgsSchema.instrumented(optionsClass);
+    }
+
+    private static <T> T parse(ArgsSchema<T> schema, String[] args) {
         try {
-            List<String> arguments = Arrays.asList(args);
-            Constructor<?> constructor = optionsClass.getDeclaredConstructors()[0];
-            Object[] values = Arrays.stream(constructor.getParameters()).map(it -> parseOption(it, arguments)).toArray();
-            return (T) constructor.newInstance(values);
+            return schema.parse(args);
         } catch (IllegalOptionException e) {
             throw e;
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
-
-    private static final Map<Class<?>, OptionParser> PARSERS = Map.of(
-            boolean.class, OptionParsers.bool(),
-            int.class, OptionParsers.unary(0, Integer::parseInt),
-            String.class, OptionParsers.unary("", String::valueOf));
-
-    private static Object parseOption(Parameter parameter, List<String> arguments) {
-        if (!parameter.isAnnotationPresent(Option.class)) {
-            throw new IllegalOptionException(parameter.getName());
-        }
-        Option option = parameter.getAnnotation(Option.class);
-        Class<?> type = parameter.getType();
-        OptionParser parser = PARSERS.get(type);
-        return parser.parse(arguments, option);
-    }
-
 }
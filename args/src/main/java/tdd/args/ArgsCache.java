@@ -0,0 +1,106 @@
+package tdd.args;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+public class ArgsCache {
+    private static final ClassValue<Boolean> CACHEABLE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> optionsClass) {
+            Stream<Class<?>> types = optionsClass.isInterface()
+                    ? Arrays.stream(optionsClass.getMethods()).map(Method::getReturnType)
+                    : Arrays.stream(optionsClass.getDeclaredConstructors()[0].getParameterTypes());
+            return types.noneMatch(Class::isArray);
+        }
+    };
+
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ArgsCache(int maximumSize) {
+        if (maximumSize < 1) throw new IllegalArgumentException("maximumSize: " + maximumSize);
+        int count = Integer.highestOneBit(Math.max(1, Math.min(16, maximumSize / 64)));
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++)
+            segments[i] = new Segment(maximumSize / count + (i < maximumSize % count ? 1 : 0));
+    }
+
+    public <T> T parse(Class<T> optionsClass, String... args) {
+        if (!CACHEABLE.get(optionsClass) || Arrays.stream(args).anyMatch(Arguments::refersToFile))
+            return Args.parse(optionsClass, args);
+        Key key = new Key(optionsClass, args);
+        Segment segment = segments[key.hash & (segments.length - 1)];
+        Object options;
+        synchronized (segment) {
+            options = segment.get(key);
+        }
+        if (options != null) {
+            hits.increment();
+            return optionsClass.cast(options);
+        }
+        misses.increment();
+        T parsed = Args.parse(optionsClass, args);
+        synchronized (segment) {
+            segment.put(new Key(optionsClass, args.clone()), parsed);
+        }
+        return parsed;
+    }
+
+    public Stats stats() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    public record Stats(long hits, long misses, long evictions, int size) {
+    }
+
+    private class Segment extends LinkedHashMap<Key, Object> {
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+            if (size() <= capacity) return false;
+            evictions.increment();
+            return true;
+        }
+    }
+
+    private static final class Key {
+        private final Class<?> optionsClass;
+        private final String[] arguments;
+        private final int hash;
+
+        Key(Class<?> optionsClass, String[] arguments) {
+            this.optionsClass = optionsClass;
+            this.arguments = arguments;
+            int hash = 31 * optionsClass.hashCode() + Arrays.hashCode(arguments);
+            this.hash = hash ^ (hash >>> 16);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && key.hash == hash && key.optionsClass == optionsClass && Arrays.equals(key.arguments, arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package tdd.args;
+
+/**
+ * Reflection-free description of an options class, generated at compile time by
+ * {@link tdd.args.processor.OptionProcessor} as {@code <OptionsClass>_ArgsParser} next to the options class.
+ * {@link Args#parse(Class, String...)} uses it when present and falls back to reflection otherwise.
+ */
+public interface ArgsParser<T> {
+    String[] options();
+
+    Class<?>[] types();
+
+    T create(Object[] values);
+
+    default T create(Arguments arguments, OptionParser<?>[] parsers, Option[] options) {
+        Object[] values = new Object[parsers.length];
+        for (int i = 0; i < parsers.length; i++)
+            values[i] = parsers[i].parse(arguments, options[i]);
+        return create(values);
+    }
+}
@@ -0,0 +1,277 @@
+package tdd.args;
+
+import tdd.args.processor.OptionProcessor;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.lang.invoke.MethodType.methodType;
+
+abstract class ArgsSchema<T> {
+    private static volatile ClassValue<ArgsSchema<?>> schemas = schemas(false);
+    private static volatile ClassValue<ArgsSchema<?>> instrumentedSchemas = schemas(true);
+
+    static <T> ArgsSchema<T> of(Class<T> optionsClass) {
+        return (ArgsSchema<T>) schemas.get(optionsClass);
+    }
+
+    static <T> ArgsSchema<T> instrumented(Class<T> optionsClass) {
+        return (ArgsSchema<T>) instrumentedSchemas.get(optionsClass);
+    }
+
+    static void invalidate() {
+        schemas = schemas(false);
+        instrumentedSchemas = schemas(true);
+    }
+
+    private static ClassValue<ArgsSchema<?>> schemas(boolean instrumented) {
+        return new ClassValue<>() {
+            @Override
+            protected ArgsSchema<?> computeValue(Class<?> optionsClass) {
+                if (optionsClass.isInterface()) return new Lazy<>(optionsClass, instrumented);
+                ArgsParser<?> generated = generated(optionsClass);
+                return generated != null ? new Generated<>(optionsClass, generated, instrumented) : new Reflective<>(optionsClass, instrumented);
+            }
+        };
+    }
+
+    private final Class<?> optionsClass;
+    private final boolean instrumented;
+
+    ArgsSchema(Class<?> optionsClass, boolean instrumented) {
+        this.optionsClass = optionsClass;
+        this.instrumented = instrumented;
+    }
+
+    private static final ThreadLocal<Arguments> SCRATCH = ThreadLocal.withInitial(Arguments::new);
+
+    T parse(String[] arguments) throws Exception {
+        Arguments scratch = SCRATCH.get();
+        if (scratch.isInUse()) return parse(new Arguments(arguments));
+        try {
+            return parse(scratch.reset(arguments));
+        } finally {
+            scratch.release();
+        }
+    }
+
+    abstract T parse(Arguments arguments) throws Exception;
+
+    abstract List<String> options();
+
+    OptionParser<?> parser(Class<?> type, Option option) {
+        OptionParser<?> parser = OptionParserRegistry.of(type);
+        return instrumented ? new Timed<>(optionsClass, option.value(), parser) : parser;
+    }
+
+    private static ArgsParser<?> generated(Class<?> optionsClass) {
+        String packageName = optionsClass.getPackageName();
+        String nestedName = packageName.isEmpty() ? optionsClass.getName() : optionsClass.getName().substring(packageName.length() + 1);
+        String parserName = (packageName.isEmpty() ? "" : packageName + ".") + nestedName.replace('$', '_') + OptionProcessor.SUFFIX;
+        try {
+            Class<?> parser = Class.forName(parserName, true, optionsClass.getClassLoader());
+            return (ArgsParser<?>) parser.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static class Reflective<T> extends ArgsSchema<T> {
+        private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+        private static final MethodHandle PARSE;
+        private static final Map<Class<?>, MethodHandle> PRIMITIVE_PARSE;
+
+        static {
+            try {
+                PARSE = LOOKUP.findVirtual(OptionParser.class, "parse", methodType(Object.class, Arguments.class, Option.class));
+                PRIMITIVE_PARSE = Map.of(
+                        boolean.class, LOOKUP.findVirtual(BooleanOptionParser.class, "parseBoolean", methodType(boolean.class, Arguments.class, Option.class)),
+                        int.class, LOOKUP.findVirtual(IntOptionParser.class, "parseInt", methodType(int.class, Arguments.class, Option.class)),
+                        long.class, LOOKUP.findVirtual(LongOptionParser.class, "parseLong", methodType(long.class, Arguments.class, Option.class)),
+                        double.class, LOOKUP.findVirtual(DoubleOptionParser.class, "parseDouble", methodType(double.class, Arguments.class, Option.class)));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final MethodHandle factory;
+        private final List<String> names;
+
+        Reflective(Class<T> optionsClass, boolean instrumented) {
+            super(optionsClass, instrumented);
+            Constructor<?> constructor = optionsClass.getDeclaredConstructors()[0];
+            Parameter[] parameters = constructor.getParameters();
+            MethodHandle[] options = new MethodHandle[parameters.length];
+            for (int i = 0; i < parameters.length; i++)
+                options[i] = parseOption(parameters[i]);
+            this.factory = factory(constructor, options);
+            this.names = Arrays.stream(parameters).map(parameter -> parameter.getAnnotation(Option.class).value()).toList();
+        }
+
+        @Override
+        List<String> options() {
+            return names;
+        }
+
+        private MethodHandle parseOption(Parameter parameter) {
+            if (!parameter.isAnnotationPresent(Option.class)) {
+                throw new IllegalOptionException(parameter.getName());
+            }
+            Option option = new OptionLiteral(parameter.getAnnotation(Option.class).value());
+            OptionParser<?> parser = parser(parameter.getType(), option);
+            MethodHandle parse = PRIMITIVE_PARSE.getOrDefault(parameter.getType(), PARSE);
+            if (!parse.type().parameterType(0).isInstance(parser)) parse = PARSE;
+            return MethodHandles.insertArguments(parse, 2, option).bindTo(parser)
+                    .asType(methodType(parameter.getType(), Arguments.class));
+        }
+
+        private static MethodHandle factory(Constructor<?> constructor, MethodHandle[] options) {
+            try {
+                MethodHandle parseAll = MethodHandles.filterArguments(LOOKUP.unreflectConstructor(constructor), 0, options);
+                MethodType type = methodType(Object.class, Arguments.class);
+                return MethodHandles.permuteArguments(parseAll.asType(parseAll.type().changeReturnType(Object.class)), type, new int[options.length]);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        T parse(Arguments arguments) throws Exception {
+            try {
+                return (T) factory.invokeExact(arguments);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    static class Generated<T> extends ArgsSchema<T> {
+        private final ArgsParser<T> parser;
+        private final Option[] options;
+        private final OptionParser<?>[] parsers;
+
+        Generated(Class<?> optionsClass, ArgsParser<T> parser, boolean instrumented) {
+            super(optionsClass, instrumented);
+            String[] names = parser.options();
+            Class<?>[] types = parser.types();
+            this.parser = parser;
+            this.options = new Option[names.length];
+            this.parsers = new OptionParser<?>[names.length];
+            for (int i = 0; i < names.length; i++) {
+                options[i] = new OptionLiteral(names[i]);
+                parsers[i] = parser(types[i], options[i]);
+            }
+        }
+
+        @Override
+        List<String> options() {
+            return Arrays.stream(options).map(Option::value).toList();
+        }
+
+        @Override
+        T parse(Arguments arguments) {
+            return parser.create(arguments, parsers, options);
+        }
+    }
+
+    static class Lazy<T> extends ArgsSchema<T> {
+        private static final Object UNPARSED = new Object();
+
+        private final Class<T> optionsInterface;
+        private final Map<Method, Integer> indexes = new HashMap<>();
+        private final Set<String> names = new HashSet<>();
+        private final Option[] options;
+        private final OptionParser<?>[] parsers;
+
+        Lazy(Class<T> optionsInterface, boolean instrumented) {
+            super(optionsInterface, instrumented);
+            List<Method> methods = Arrays.stream(optionsInterface.getMethods())
+                    .filter(method -> Modifier.isAbstract(method.getModifiers())).toList();
+            this.optionsInterface = optionsInterface;
+            this.options = new Option[methods.size()];
+            this.parsers = new OptionParser<?>[methods.size()];
+            for (int i = 0; i < methods.size(); i++) {
+                Method method = methods.get(i);
+                if (!method.isAnnotationPresent(Option.class) || method.getParameterCount() != 0) {
+                    throw new IllegalOptionException(method.getName());
+                }
+                options[i] = new OptionLiteral(method.getAnnotation(Option.class).value());
+                parsers[i] = parser(method.getReturnType(), options[i]);
+                indexes.put(method, i);
+                names.add(options[i].value());
+            }
+        }
+
+        @Override
+        List<String> options() {
+            return Arrays.stream(options).map(Option::value).toList();
+        }
+
+        @Override
+        T parse(String[] arguments) {
+            return parse(new Arguments(arguments.clone()));
+        }
+
+        @Override
+        T parse(Arguments arguments) {
+            arguments.forEachFlag(flag -> {
+                if (!names.contains(flag)) throw new IllegalOptionException(flag);
+            });
+            AtomicReferenceArray<Object> values = new AtomicReferenceArray<>(parsers.length);
+            for (int i = 0; i < parsers.length; i++) values.set(i, UNPARSED);
+            return optionsInterface.cast(Proxy.newProxyInstance(optionsInterface.getClassLoader(), new Class<?>[]{optionsInterface},
+                    (proxy, method, args) -> invoke(arguments, values, proxy, method, args)));
+        }
+
+        private Object invoke(Arguments arguments, AtomicReferenceArray<Object> values, Object proxy, Method method, Object[] args) throws Throwable {
+            Integer index = indexes.get(method);
+            if (index != null) {
+                Object value = values.get(index);
+                if (value != UNPARSED) return value;
+                values.compareAndSet(index, UNPARSED, parsers[index].parse(arguments, options[index]));
+                return values.get(index);
+            }
+            if (method.isDefault()) return InvocationHandler.invokeDefault(proxy, method, args);
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> optionsInterface.getName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+                default -> throw new UnsupportedOperationException(method.getName());
+            };
+        }
+    }
+
+    private record Timed<T>(Class<?> optionsClass, String option, OptionParser<T> parser) implements OptionParser<T> {
+        @Override
+        public T parse(Arguments arguments, Option option) {
+            ParseListener listener = Args.listener();
+            if (listener == null) return parser.parse(arguments, option);
+            long start = System.nanoTime();
+            T value;
+            try {
+                value = parser.parse(arguments, option);
+            } catch (RuntimeException | Error e) {
+                listener.failed(optionsClass, this.option, System.nanoTime() - start, e);
+                throw e;
+            }
+            listener.parsed(optionsClass, this.option, System.nanoTime() - start);
+            return value;
+        }
+    }
+
+    private record OptionLiteral(String value) implements Option {
+        @Override
+        public Class<? extends Annotation> annotationType() {
+            return Option.class;
+        }
+    }
+}
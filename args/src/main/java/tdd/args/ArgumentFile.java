@@ -0,0 +1,74 @@
+package tdd.args;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+class ArgumentFile extends Spliterators.AbstractSpliterator<String> {
+    private final MappedByteBuffer content;
+    private byte[] token = new byte[64];
+
+    private ArgumentFile(MappedByteBuffer content) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.content = content;
+    }
+
+    static Stream<String> tokens(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return StreamSupport.stream(new ArgumentFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())), false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super String> action) {
+        skipWhitespacesAndComments();
+        if (!content.hasRemaining()) return false;
+        int length = 0;
+        byte quote = 0;
+        while (content.hasRemaining()) {
+            byte current = content.get(content.position());
+            if (quote == 0 && isWhitespace(current)) break;
+            content.get();
+            if (quote == 0 && (current == '"' || current == '\'')) quote = current;
+            else if (current == quote) quote = 0;
+            else token = append(token, length++, current);
+        }
+        action.accept(new String(token, 0, length, StandardCharsets.UTF_8));
+        return true;
+    }
+
+    private void skipWhitespacesAndComments() {
+        while (content.hasRemaining()) {
+            byte current = content.get(content.position());
+            if (current == '#') {
+                while (content.hasRemaining() && content.get() != '\n') ;
+            } else if (isWhitespace(current)) {
+                content.get();
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static byte[] append(byte[] token, int length, byte current) {
+        if (length == token.length) token = Arrays.copyOf(token, length * 2);
+        token[length] = current;
+        return token;
+    }
+
+    private static boolean isWhitespace(byte current) {
+        return current == ' ' || current == '\t' || current == '\n' || current == '\r' || current == '\f';
+    }
+}
@@ -0,0 +1,171 @@
+package tdd.args;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class Arguments {
+    private static final int RETAINED_CAPACITY = 1024;
+
+    private String[] arguments;
+    private String[] buffer = new String[0];
+    private int size;
+    private int lastFlag;
+    private int[] ends = new int[0];
+    private int[] slots = new int[0];
+    private int[] stamps = new int[0];
+    private int generation;
+
+    Arguments() {
+    }
+
+    Arguments(String... arguments) {
+        reset(arguments);
+    }
+
+    Arguments(List<String> arguments) {
+        this(arguments.toArray(String[]::new));
+    }
+
+    Arguments reset(String[] arguments) {
+        start();
+        if (!hasArgumentFile(arguments)) {
+            this.arguments = arguments;
+            this.size = arguments.length;
+            ensureCapacity(size);
+            for (int index = 0; index < size; index++) index(index);
+        } else {
+            this.arguments = buffer;
+            ensureCapacity(0);
+            for (String argument : arguments) {
+                if (!isArgumentFile(argument)) add(argument);
+                else if (!refersToFile(argument)) add(argument.substring(1));
+                else if (Files.isRegularFile(Path.of(argument.substring(1))))
+                    ArgumentFile.tokens(Path.of(argument.substring(1))).forEach(this::add);
+                else add(argument);
+            }
+        }
+        if (lastFlag != -1) ends[lastFlag] = size;
+        return this;
+    }
+
+    void release() {
+        if (arguments == buffer) Arrays.fill(buffer, 0, size, null);
+        arguments = null;
+        if (capacity() > RETAINED_CAPACITY) {
+            buffer = new String[0];
+            ends = new int[0];
+            slots = new int[0];
+            stamps = new int[0];
+        }
+    }
+
+    int capacity() {
+        return Math.max(Math.max(buffer.length, ends.length), slots.length);
+    }
+
+    boolean isInUse() {
+        return arguments != null;
+    }
+
+    public int indexOf(Option option) {
+        String name = option.value();
+        int mask = slots.length - 1;
+        for (int slot = name.hashCode() & mask; stamps[slot] == generation; slot = (slot + 1) & mask) {
+            String flag = arguments[slots[slot]];
+            if (flag.length() == name.length() + 1 && flag.startsWith(name, 1)) return slots[slot];
+        }
+        return -1;
+    }
+
+    void forEachFlag(Consumer<String> action) {
+        for (int index = 0; index < size; index++)
+            if (isFlag(arguments[index])) action.accept(arguments[index].substring(1));
+    }
+
+    public int size(int index) {
+        return ends[index] - index - 1;
+    }
+
+    public String value(int index, int position) {
+        return arguments[index + 1 + position];
+    }
+
+    private void start() {
+        size = 0;
+        lastFlag = -1;
+        if (++generation == 0) {
+            Arrays.fill(stamps, 0);
+            generation = 1;
+        }
+    }
+
+    private void add(String argument) {
+        if (size == buffer.length) arguments = buffer = Arrays.copyOf(buffer, Math.max(16, size * 2));
+        buffer[size] = argument;
+        if (ensureCapacity(size + 1)) rehash();
+        index(size++);
+    }
+
+    private void index(int index) {
+        if (!isFlag(arguments[index])) return;
+        if (lastFlag != -1) ends[lastFlag] = index;
+        lastFlag = index;
+        put(index);
+    }
+
+    private void put(int index) {
+        String flag = arguments[index];
+        int mask = slots.length - 1;
+        int slot = hash(flag) & mask;
+        for (; stamps[slot] == generation; slot = (slot + 1) & mask)
+            if (sameFlag(arguments[slots[slot]], flag)) return;
+        slots[slot] = index;
+        stamps[slot] = generation;
+    }
+
+    private boolean ensureCapacity(int size) {
+        if (ends.length < size) ends = Arrays.copyOf(ends, Math.max(size, ends.length * 2));
+        int required = Math.max(size, 1) * 2;
+        if (slots.length >= required) return false;
+        int capacity = Integer.highestOneBit(Math.max(required, slots.length * 2) - 1) << 1;
+        slots = new int[capacity];
+        stamps = new int[capacity];
+        return true;
+    }
+
+    private void rehash() {
+        for (int index = 0; index < size; index++)
+            if (isFlag(arguments[index])) put(index);
+    }
+
+    private static int hash(String flag) {
+        int hash = 0;
+        for (int i = 1; i < flag.length(); i++) hash = 31 * hash + flag.charAt(i);
+        return hash;
+    }
+
+    private static boolean sameFlag(String flag, String other) {
+        return flag.length() == other.length() && flag.regionMatches(1, other, 1, flag.length() - 1);
+    }
+
+    static boolean isFlag(String argument) {
+        return argument.length() > 1 && argument.charAt(0) == '-' && !Character.isDigit(argument.charAt(1));
+    }
+
+    private static boolean hasArgumentFile(String[] arguments) {
+        for (String argument : arguments)
+            if (isArgumentFile(argument)) return true;
+        return false;
+    }
+
+    private static boolean isArgumentFile(String argument) {
+        return argument.length() > 1 && argument.charAt(0) == '@';
+    }
+
+    static boolean refersToFile(String argument) {
+        return isArgumentFile(argument) && argument.charAt(1) != '@';
+    }
+}
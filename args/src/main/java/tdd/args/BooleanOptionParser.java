@@ -0,0 +1,10 @@
+package tdd.args;
+
+public interface BooleanOptionParser extends OptionParser<Boolean> {
+    boolean parseBoolean(Arguments arguments, Option option);
+
+    @Override
+    default Boolean parse(Arguments arguments, Option option) {
+        return parseBoolean(arguments, option);
+    }
+}
@@ -0,0 +1,58 @@
+package tdd.args;
+
+import java.util.Arrays;
+
+public class Commands {
+    private final PrefixTrie<Command> commands;
+    private final boolean abbreviations;
+
+    private Commands(PrefixTrie<Command> commands, boolean abbreviations) {
+        this.commands = commands;
+        this.abbreviations = abbreviations;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Object parse(String... args) {
+        if (args.length == 0) throw new IllegalCommandException("");
+        Command command = commands.get(args[0], 0, abbreviations);
+        if (command == null) throw new IllegalCommandException(args[0]);
+        String[] arguments = Arrays.copyOfRange(args, 1, args.length);
+        if (abbreviations) command.expandFlags(arguments);
+        return Args.parse(command.optionsClass(), arguments);
+    }
+
+    private record Command(Class<?> optionsClass, PrefixTrie<String> options) {
+        void expandFlags(String[] arguments) {
+            for (int i = 0; i < arguments.length; i++) {
+                if (!Arguments.isFlag(arguments[i])) continue;
+                String option = options.get(arguments[i], 1, true);
+                if (option == null && options.isPrefix(arguments[i], 1)) throw new IllegalOptionException(arguments[i].substring(1));
+                if (option != null && option.length() != arguments[i].length() - 1) arguments[i] = "-" + option;
+            }
+        }
+    }
+
+    public static class Builder {
+        private final PrefixTrie<Command> commands = new PrefixTrie<>();
+        private boolean abbreviations;
+
+        public Builder command(String name, Class<?> optionsClass) {
+            PrefixTrie<String> options = new PrefixTrie<>();
+            for (String option : ArgsSchema.of(optionsClass).options()) options.put(option, option);
+            commands.put(name, new Command(optionsClass, options));
+            return this;
+        }
+
+        public Builder abbreviations(boolean abbreviations) {
+            this.abbreviations = abbreviations;
+            return this;
+        }
+
+        public Commands build() {
+            return new Commands(commands, abbreviations);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package tdd.args;
+
+public interface DoubleOptionParser extends OptionParser<Double> {
+    double parseDouble(Arguments arguments, Option option);
+
+    @Override
+    default Double parse(Arguments arguments, Option option) {
+        return parseDouble(arguments, option);
+    }
+}
@@ -0,0 +1,13 @@
+package tdd.args;
+
+public class IllegalCommandException extends RuntimeException {
+    private final String command;
+
+    public IllegalCommandException(String command) {
+        this.command = command;
+    }
+
+    public String getCommand() {
+        return command;
+    }
+}
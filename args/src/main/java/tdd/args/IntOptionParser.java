@@ -0,0 +1,10 @@
+package tdd.args;
+
+public interface IntOptionParser extends OptionParser<Integer> {
+    int parseInt(Arguments arguments, Option option);
+
+    @Override
+    default Integer parse(Arguments arguments, Option option) {
+        return parseInt(arguments, option);
+    }
+}
@@ -0,0 +1,10 @@
+package tdd.args;
+
+public interface LongOptionParser extends OptionParser<Long> {
+    long parseLong(Arguments arguments, Option option);
+
+    @Override
+    default Long parse(Arguments arguments, Option option) {
+        return parseLong(arguments, option);
+    }
+}
@@ -0,0 +1,32 @@
+package tdd.args;
+
+import jdk.jfr.*;
+
+@Name("tdd.args.OptionParse")
+@Label("Option Parse")
+@Category("Args")
+@StackTrace(false)
+class OptionParseEvent extends Event {
+    @Label("Options Class")
+    Class<?> optionsClass;
+
+    @Label("Option")
+    String option;
+
+    @Label("Parse Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long parseTime;
+
+    @Label("Error")
+    String error;
+
+    static void commit(Class<?> optionsClass, String option, long parseTime, Throwable error) {
+        OptionParseEvent event = new OptionParseEvent();
+        if (!event.isEnabled()) return;
+        event.optionsClass = optionsClass;
+        event.option = option;
+        event.parseTime = parseTime;
+        event.error = error == null ? null : error.getClass().getName();
+        event.commit();
+    }
+}
@@ -2,6 +2,10 @@ package tdd.args;
 
 import java.util.List;
 
-interface OptionParser<T> {
-    T parse(List<String> arguments, Option option);
+public interface OptionParser<T> {
+    T parse(Arguments arguments, Option option);
+
+    default T parse(List<String> arguments, Option option) {
+        return parse(new Arguments(arguments), option);
+    }
 }
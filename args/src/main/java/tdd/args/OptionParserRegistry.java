@@ -0,0 +1,47 @@
+package tdd.args;
+
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+class OptionParserRegistry {
+    private static final Map<Class<?>, OptionParser<?>> BUILT_IN = Map.ofEntries(
+            Map.entry(boolean.class, OptionParsers.bool()),
+            Map.entry(int.class, OptionParsers.intValue(0)),
+            Map.entry(long.class, OptionParsers.longValue(0)),
+            Map.entry(double.class, OptionParsers.doubleValue(0)),
+            Map.entry(String.class, OptionParsers.unary("", String::valueOf)),
+            Map.entry(Duration.class, OptionParsers.unary(null, Duration::parse)),
+            Map.entry(Path.class, OptionParsers.unary(null, Path::of)),
+            Map.entry(InetSocketAddress.class, OptionParsers.unary(null, OptionParsers::socketAddress)),
+            Map.entry(int[].class, OptionParsers.ints()),
+            Map.entry(long[].class, OptionParsers.longs()),
+            Map.entry(String[].class, OptionParsers.strings()));
+
+    private static final Map<Class<?>, OptionParser<?>> CUSTOM = new ConcurrentHashMap<>();
+
+    private static final ClassValue<OptionParser<?>> PARSERS = new ClassValue<>() {
+        @Override
+        protected OptionParser<?> computeValue(Class<?> type) {
+            OptionParser<?> parser = CUSTOM.getOrDefault(type, BUILT_IN.get(type));
+            if (parser != null) return parser;
+            if (type.isEnum()) return OptionParsers.unary(null, value -> enumValue(type, value));
+            throw new UnsupportedOptionTypeException(type);
+        }
+    };
+
+    static OptionParser<?> of(Class<?> type) {
+        return PARSERS.get(type);
+    }
+
+    static <T> void register(Class<T> type, OptionParser<? extends T> parser) {
+        CUSTOM.put(type, parser);
+        PARSERS.remove(type);
+    }
+
+    private static Object enumValue(Class<?> type, String value) {
+        return Enum.valueOf(type.asSubclass(Enum.class), value);
+    }
+}
@@ -1,35 +1,90 @@
 package tdd.args;
 
+import java.net.InetSocketAddress;
 import java.util.List;
-import java.util.Optional;
 import java.util.function.Function;
-import java.util.stream.IntStream;
 
-class OptionParsers<T> {
-    public static OptionParser<Boolean> bool() {
-        return ((arguments, option) -> values(arguments, option, 0).isPresent());
+public class OptionParsers<T> {
+    public static BooleanOptionParser bool() {
+        return ((arguments, option) -> indexOf(arguments, option, 0) != -1);
+    }
+
+    public static IntOptionParser intValue(int defaultValue) {
+        return ((arguments, option) -> {
+            int index = indexOf(arguments, option, 1);
+            return index == -1 ? defaultValue : Integer.parseInt(arguments.value(index, 0));
+        });
+    }
+
+    public static LongOptionParser longValue(long defaultValue) {
+        return ((arguments, option) -> {
+            int index = indexOf(arguments, option, 1);
+            return index == -1 ? defaultValue : Long.parseLong(arguments.value(index, 0));
+        });
+    }
+
+    public static DoubleOptionParser doubleValue(double defaultValue) {
+        return ((arguments, option) -> {
+            int index = indexOf(arguments, option, 1);
+            return index == -1 ? defaultValue : Double.parseDouble(arguments.value(index, 0));
+        });
     }
 
     public static <T> OptionParser<T> unary(T defaultValue, Function<String, T> valueParser) {
-        return ((arguments, option) -> values(arguments, option, 1).map(it -> parseValue(option, it.getFirst(), valueParser)).orElse(defaultValue));
+        return ((arguments, option) -> {
+            int index = indexOf(arguments, option, 1);
+            return index == -1 ? defaultValue : parseValue(option, arguments.value(index, 0), valueParser);
+        });
     }
 
-    private static Optional<List<String>> values(List<String> arguments, Option option, int expectedSize) {
-        int index = arguments.indexOf("-" + option.value());
-        if (index == -1) return Optional.empty();
-        List<String> values = values(arguments, index);
-        if (values.size() < expectedSize) throw new InsufficientArgumentsException(option.value());
-        if (values.size() > expectedSize) throw new TooManyArgumentsException(option.value());
-        return Optional.of(values);
+    public static OptionParser<int[]> ints() {
+        return ((arguments, option) -> {
+            int index = arguments.indexOf(option);
+            if (index == -1) return new int[0];
+            int[] values = new int[arguments.size(index)];
+            for (int i = 0; i < values.length; i++) values[i] = Integer.parseInt(arguments.value(index, i));
+            return values;
+        });
     }
 
-    private static <T> T parseValue(Option option, String value, Function<String, T> valueParser) {
-        return valueParser.apply(value);
+    public static OptionParser<long[]> longs() {
+        return ((arguments, option) -> {
+            int index = arguments.indexOf(option);
+            if (index == -1) return new long[0];
+            long[] values = new long[arguments.size(index)];
+            for (int i = 0; i < values.length; i++) values[i] = Long.parseLong(arguments.value(index, i));
+            return values;
+        });
     }
 
-    public static List<String> values(List<String> arguments, int index) {
-        int followingFlag = IntStream.range(index + 1, arguments.size()).filter(it -> arguments.get(it).startsWith("-")).findFirst().orElse(arguments.size());
-        return arguments.subList(index + 1, followingFlag);
+    public static OptionParser<String[]> strings() {
+        return ((arguments, option) -> {
+            int index = arguments.indexOf(option);
+            if (index == -1) return new String[0];
+            String[] values = new String[arguments.size(index)];
+            for (int i = 0; i < values.length; i++) values[i] = arguments.value(index, i);
+            return values;
+        });
+    }
+
+    private static int indexOf(Arguments arguments, Option option, int expectedSize) {
+        int index = arguments.indexOf(option);
+        if (index == -1) return -1;
+        if (arguments.size(index) < expectedSize) throw new InsufficientArgumentsException(option.value());
+        if (arguments.size(index) > expectedSize) throw new TooManyArgumentsException(option.value());
+        return index;
+    }
+
+    static InetSocketAddress socketAddress(String value) {
+        int separator = value.lastIndexOf(':');
+        if (separator == -1) throw new IllegalArgumentException(value);
+        String host = value.substring(0, separator);
+        if (host.startsWith("[") && host.endsWith("]")) host = host.substring(1, host.length() - 1);
+        return InetSocketAddress.createUnresolved(host, Integer.parseInt(value.substring(separator + 1)));
+    }
+
+    private static <T> T parseValue(Option option, String value, Function<String, T> valueParser) {
+        return valueParser.apply(value);
     }
 
     private static boolean secondArgumentIsNotAFlag(List<String> arguments, int index) {
@@ -0,0 +1,36 @@
+package tdd.args;
+
+public interface ParseListener {
+    void parsed(Class<?> optionsClass, String option, long elapsedNanos);
+
+    void failed(Class<?> optionsClass, String option, long elapsedNanos, Throwable error);
+
+    static ParseListener jfr() {
+        return new ParseListener() {
+            @Override
+            public void parsed(Class<?> optionsClass, String option, long elapsedNanos) {
+                OptionParseEvent.commit(optionsClass, option, elapsedNanos, null);
+            }
+
+            @Override
+            public void failed(Class<?> optionsClass, String option, long elapsedNanos, Throwable error) {
+                OptionParseEvent.commit(optionsClass, option, elapsedNanos, error);
+            }
+        };
+    }
+
+    static ParseListener of(ParseListener... listeners) {
+        ParseListener[] all = listeners.clone();
+        return new ParseListener() {
+            @Override
+            public void parsed(Class<?> optionsClass, String option, long elapsedNanos) {
+                for (ParseListener listener : all) listener.parsed(optionsClass, option, elapsedNanos);
+            }
+
+            @Override
+            public void failed(Class<?> optionsClass, String option, long elapsedNanos, Throwable error) {
+                for (ParseListener listener : all) listener.failed(optionsClass, option, elapsedNanos, error);
+            }
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package tdd.args;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+public class ParseMetrics implements ParseListener {
+    private final Map<Class<?>, Map<String, Counter>> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public void parsed(Class<?> optionsClass, String option, long elapsedNanos) {
+        counter(optionsClass, option).record(elapsedNanos, false);
+    }
+
+    @Override
+    public void failed(Class<?> optionsClass, String option, long elapsedNanos, Throwable error) {
+        counter(optionsClass, option).record(elapsedNanos, true);
+    }
+
+    public OptionMetrics of(Class<?> optionsClass, String option) {
+        Counter counter = counters.getOrDefault(optionsClass, Map.of()).get(option);
+        return counter == null ? new OptionMetrics(0, 0, 0, 0) : counter.snapshot();
+    }
+
+    public Map<String, OptionMetrics> of(Class<?> optionsClass) {
+        return counters.getOrDefault(optionsClass, Map.of()).entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().snapshot()));
+    }
+
+    public void reset() {
+        counters.clear();
+    }
+
+    private Counter counter(Class<?> optionsClass, String option) {
+        return counters.computeIfAbsent(optionsClass, it -> new ConcurrentHashMap<>())
+                .computeIfAbsent(option, it -> new Counter());
+    }
+
+    public record OptionMetrics(long count, long errors, long totalNanos, long maxNanos) {
+        public double meanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+    }
+
+    private static class Counter {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long elapsedNanos, boolean failed) {
+            count.increment();
+            if (failed) errors.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+        }
+
+        OptionMetrics snapshot() {
+            return new OptionMetrics(count.sum(), errors.sum(), totalNanos.sum(), maxNanos.get());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package tdd.args;
+
+public record ParseResult<T>(String[] arguments, T options, RuntimeException error) {
+    static <T> ParseResult<T> parsed(String[] arguments, T options) {
+        return new ParseResult<>(arguments, options, null);
+    }
+
+    static <T> ParseResult<T> failed(String[] arguments, RuntimeException error) {
+        return new ParseResult<>(arguments, null, error);
+    }
+
+    public boolean isParsed() {
+        return error == null;
+    }
+}
@@ -0,0 +1,59 @@
+package tdd.args;
+
+import java.util.Arrays;
+
+class PrefixTrie<V> {
+    private final Node<V> root = new Node<>();
+
+    void put(String key, V value) {
+        if (get(key, 0, false) != null) throw new IllegalArgumentException(key);
+        Node<V> node = root;
+        node.add(value);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.child(key.charAt(i), true);
+            node.add(value);
+        }
+        node.value = value;
+    }
+
+    V get(String key, int from, boolean prefix) {
+        Node<V> node = find(key, from);
+        if (node == null) return null;
+        if (node.value != null) return node.value;
+        return prefix && node.size == 1 ? node.unique : null;
+    }
+
+    boolean isPrefix(String key, int from) {
+        return find(key, from) != null;
+    }
+
+    private Node<V> find(String key, int from) {
+        if (key.length() <= from) return null;
+        Node<V> node = root;
+        for (int i = from; i < key.length() && node != null; i++)
+            node = node.child(key.charAt(i), false);
+        return node;
+    }
+
+    private static class Node<V> {
+        private char[] keys = new char[0];
+        private Node<V>[] children = new Node[0];
+        private V value;
+        private V unique;
+        private int size;
+
+        void add(V value) {
+            unique = size++ == 0 ? value : null;
+        }
+
+        Node<V> child(char key, boolean create) {
+            for (int i = 0; i < keys.length; i++)
+                if (keys[i] == key) return children[i];
+            if (!create) return null;
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            keys[keys.length - 1] = key;
+            return children[children.length - 1] = new Node<>();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package tdd.args;
+
+public class UnsupportedOptionTypeException extends RuntimeException {
+    private final Class<?> type;
+
+    public UnsupportedOptionTypeException(Class<?> type) {
+        this.type = type;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+}
@@ -0,0 +1,115 @@
+package tdd.args.processor;
+
+import tdd.args.Option;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@SupportedAnnotationTypes("tdd.args.Option")
+public class OptionProcessor extends AbstractProcessor {
+    public static final String SUFFIX = "_ArgsParser";
+
+    private static final Map<String, String[]> PRIMITIVE_PARSERS = Map.of(
+            "boolean", new String[]{"BooleanOptionParser", "parseBoolean", "java.lang.Boolean"},
+            "int", new String[]{"IntOptionParser", "parseInt", "java.lang.Integer"},
+            "long", new String[]{"LongOptionParser", "parseLong", "java.lang.Long"},
+            "double", new String[]{"DoubleOptionParser", "parseDouble", "java.lang.Double"});
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<TypeElement, List<ExecutableElement>> constructors = new LinkedHashMap<>();
+        for (Element parameter : roundEnv.getElementsAnnotatedWith(Option.class)) {
+            Element executable = parameter.getEnclosingElement();
+            if (parameter.getKind() != ElementKind.PARAMETER || executable.getKind() != ElementKind.CONSTRUCTOR) continue;
+            List<ExecutableElement> candidates = constructors.computeIfAbsent((TypeElement) executable.getEnclosingElement(), type -> new ArrayList<>());
+            if (!candidates.contains(executable)) candidates.add((ExecutableElement) executable);
+        }
+        constructors.forEach((type, candidates) -> {
+            if (candidates.size() == 1 && isGeneratable(type, candidates.get(0))) generate(type, candidates.get(0));
+        });
+        return false;
+    }
+
+    private static boolean isGeneratable(TypeElement type, ExecutableElement constructor) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT) || constructor.getModifiers().contains(Modifier.PRIVATE))
+            return false;
+        if (constructor.getParameters().stream().anyMatch(parameter -> parameter.getAnnotation(Option.class) == null))
+            return false;
+        for (Element current = type; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) return false;
+            if (((TypeElement) current).getNestingKind() == NestingKind.MEMBER && !current.getModifiers().contains(Modifier.STATIC)
+                    && current.getKind() == ElementKind.CLASS) return false;
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type, ExecutableElement constructor) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)).replace('$', '_') + SUFFIX;
+        String typeName = type.getQualifiedName().toString();
+
+        List<String> options = new ArrayList<>();
+        List<String> types = new ArrayList<>();
+        for (VariableElement parameter : constructor.getParameters()) {
+            options.add(processingEnv.getElementUtils().getConstantExpression(parameter.getAnnotation(Option.class).value()));
+            TypeMirror erasure = processingEnv.getTypeUtils().erasure(parameter.asType());
+            types.add(erasure.toString());
+        }
+
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(packageName.isEmpty() ? simpleName : packageName + "." + simpleName, type).openWriter())) {
+            if (!packageName.isEmpty()) out.println("package " + packageName + ";\n");
+            out.println("@javax.annotation.processing.Generated(\"" + OptionProcessor.class.getName() + "\")");
+            out.println("public final class " + simpleName + " implements tdd.args.ArgsParser<" + typeName + "> {");
+            out.println("    @Override");
+            out.println("    public String[] options() {");
+            out.println("        return new String[]{" + String.join(", ", options) + "};");
+            out.println("    }\n");
+            out.println("    @Override");
+            out.println("    public Class<?>[] types() {");
+            out.println("        return new Class<?>[]{" + String.join(", ", types.stream().map(it -> it + ".class").toList()) + "};");
+            out.println("    }\n");
+            out.println("    @Override");
+            out.println("    public " + typeName + " create(Object[] values) {");
+            List<String> arguments = new ArrayList<>();
+            for (int i = 0; i < types.size(); i++) arguments.add("(" + types.get(i) + ") values[" + i + "]");
+            out.println("        return new " + typeName + "(" + String.join(", ", arguments) + ");");
+            out.println("    }\n");
+            out.println("    @Override");
+            out.println("    public " + typeName + " create(tdd.args.Arguments arguments, tdd.args.OptionParser<?>[] parsers, tdd.args.Option[] options) {");
+            List<String> parsed = new ArrayList<>();
+            for (int i = 0; i < types.size(); i++) parsed.add(parse(types.get(i), i));
+            out.println("        return new " + typeName + "(" + String.join(",\n                ", parsed) + ");");
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot generate args parser: " + e.getMessage(), type);
+        }
+    }
+
+    private static String parse(String type, int index) {
+        String parse = "parsers[" + index + "].parse(arguments, options[" + index + "])";
+        String[] primitive = PRIMITIVE_PARSERS.get(type);
+        if (primitive == null) return "(" + type + ") " + parse;
+        return "parsers[" + index + "] instanceof tdd.args." + primitive[0]
+                + " ? ((tdd.args." + primitive[0] + ") parsers[" + index + "])." + primitive[1] + "(arguments, options[" + index + "])"
+                + " : (" + primitive[2] + ") " + parse;
+    }
+}
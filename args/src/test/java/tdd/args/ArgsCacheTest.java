@@ -0,0 +1,118 @@
+package tdd.args;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArgsCacheTest {
+    @Test
+    public void should_return_parsed_options_for_same_arguments() {
+        ArgsCache cache = new ArgsCache(10);
+        ServerOptions first = cache.parse(ServerOptions.class, "-l", "-p", "8080");
+        ServerOptions second = cache.parse(ServerOptions.class, new String[]{"-l", "-p", "8080"});
+
+        assertSame(first, second);
+        assertEquals(new ArgsCache.Stats(1, 1, 0, 1), cache.stats());
+    }
+
+    @Test
+    public void should_key_cache_by_options_class() {
+        ArgsCache cache = new ArgsCache(10);
+        assertEquals(new ServerOptions(true, 0), cache.parse(ServerOptions.class, "-l"));
+        assertEquals(new LoggingOptions(true), cache.parse(LoggingOptions.class, "-l"));
+    }
+
+    @Test
+    public void should_not_cache_options_with_mutable_array_values() {
+        ArgsCache cache = new ArgsCache(10);
+        ListOptions first = cache.parse(ListOptions.class, "-d", "1", "2");
+        first.decimals()[0] = 3;
+        ListOptions second = cache.parse(ListOptions.class, "-d", "1", "2");
+
+        assertNotSame(first, second);
+        assertArrayEquals(new int[]{1, 2}, second.decimals());
+        assertEquals(new ArgsCache.Stats(0, 0, 0, 0), cache.stats());
+    }
+
+    @Test
+    public void should_read_argument_file_on_every_parse() throws IOException {
+        ArgsCache cache = new ArgsCache(10);
+        Path file = Files.createTempFile("args", ".txt");
+        Files.writeString(file, "-p 1");
+        assertEquals(new ServerOptions(false, 1), cache.parse(ServerOptions.class, "@" + file));
+
+        Files.writeString(file, "-p 2");
+
+        assertEquals(new ServerOptions(false, 2), cache.parse(ServerOptions.class, "@" + file));
+        assertEquals(new ArgsCache.Stats(0, 0, 0, 0), cache.stats());
+    }
+
+    @Test
+    public void should_not_be_affected_by_mutating_cached_arguments() {
+        ArgsCache cache = new ArgsCache(10);
+        String[] arguments = {"-p", "8080"};
+        cache.parse(ServerOptions.class, arguments);
+        arguments[1] = "9090";
+
+        assertEquals(new ServerOptions(false, 9090), cache.parse(ServerOptions.class, arguments));
+        assertEquals(new ServerOptions(false, 8080), cache.parse(ServerOptions.class, "-p", "8080"));
+    }
+
+    @Test
+    public void should_evict_least_recently_used_options() {
+        ArgsCache cache = new ArgsCache(2);
+        ServerOptions first = cache.parse(ServerOptions.class, "-p", "1");
+        cache.parse(ServerOptions.class, "-p", "2");
+        cache.parse(ServerOptions.class, "-p", "1");
+        cache.parse(ServerOptions.class, "-p", "3");
+
+        assertSame(first, cache.parse(ServerOptions.class, "-p", "1"));
+        assertEquals(new ArgsCache.Stats(2, 3, 1, 2), cache.stats());
+    }
+
+    @Test
+    public void should_not_cache_failed_parse() {
+        ArgsCache cache = new ArgsCache(2);
+        assertThrows(RuntimeException.class, () -> cache.parse(ServerOptions.class, "-p", "1", "2"));
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    public void should_parse_concurrently() throws Exception {
+        ArgsCache cache = new ArgsCache(64);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ServerOptions>> results = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                int port = i % 32;
+                results.add(executor.submit(() -> cache.parse(ServerOptions.class, "-p", String.valueOf(port))));
+            }
+            for (int i = 0; i < results.size(); i++)
+                assertEquals(i % 32, results.get(i).get().port());
+        } finally {
+            executor.shutdown();
+        }
+
+        ArgsCache.Stats stats = cache.stats();
+        assertEquals(10_000, stats.hits() + stats.misses());
+        assertEquals(32, stats.size());
+    }
+
+    record ServerOptions(@Option("l") boolean logging, @Option("p") int port) {
+    }
+
+    record LoggingOptions(@Option("l") boolean logging) {
+    }
+
+    record ListOptions(@Option("d") int[] decimals) {
+    }
+}
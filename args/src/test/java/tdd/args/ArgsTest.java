@@ -1,8 +1,23 @@
 package tdd.args;
 
-import org.junit.jupiter.api.Disabled;
+import com.sun.management.ThreadMXBean;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.FutureTask;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class ArgsTest {
@@ -27,15 +42,385 @@ public class ArgsTest {
     static record OptionWithoutAnnotation(@Option("l") boolean logging, int port, @Option("d") String directory) {
     }
 
+    @Test
+    public void should_compile_schema_once_per_options_class() {
+        assertSame(ArgsSchema.of(MultiOptions.class), ArgsSchema.of(MultiOptions.class));
+    }
+
+    @Test
+    public void should_reuse_schema_for_repeated_parse() {
+        MultiOptions first = Args.parse(MultiOptions.class, "-l", "-p", "8080", "-d", "/user/logs");
+        MultiOptions second = Args.parse(MultiOptions.class, "-p", "9090");
+        assertEquals(new MultiOptions(true, 8080, "/user/logs"), first);
+        assertEquals(new MultiOptions(false, 9090, ""), second);
+    }
+
+    @Test
+    public void should_throw_illegal_option_exception_every_time_if_annotation_not_present() {
+        assertThrows(IllegalOptionException.class, () -> Args.parse(OptionWithoutAnnotation.class, "-l"));
+        IllegalOptionException e = assertThrows(IllegalOptionException.class, () -> Args.parse(OptionWithoutAnnotation.class, "-l"));
+        assertEquals("port", e.getParameter());
+    }
+
+
+    @Test
+    public void should_create_options_without_any_option() {
+        assertEquals(new NoOptions(), Args.parse(NoOptions.class, "-l"));
+    }
+
+    static record NoOptions() {
+    }
+
+    @Test
+    public void should_pass_parsed_primitive_values_to_constructor() {
+        PrimitiveOptions options = Args.parse(PrimitiveOptions.class, "-l", "-q", "9");
+        assertTrue(options.logging());
+        assertEquals(9, options.port());
+    }
+
+    static record PrimitiveOptions(@Option("l") boolean logging, @Option("q") int port) {
+    }
+
+    @Test
+    public void should_use_generated_parser_if_present() {
+        GeneratedOptions options = Args.parse(GeneratedOptions.class, "-l", "-p", "8080");
+        assertEquals(new GeneratedOptions(true, 8080, true), options);
+    }
+
+    static record GeneratedOptions(boolean logging, int port, boolean generated) {
+    }
+
+    @Test
+    public void should_only_allocate_options_object_when_parsing_repeatedly() {
+        long allocatedPerParse = allocatedPerParse(MultiOptions.class, "-l", "-p", "8080", "-d", "/usr/logs");
+
+        assertTrue(allocatedPerParse <= 32, "allocated " + allocatedPerParse + " bytes per parse");
+    }
+
+    @Test
+    public void should_only_allocate_options_object_when_parsing_repeatedly_with_generated_parser() {
+        long allocatedPerParse = allocatedPerParse(GeneratedOptions.class, "-l", "-p", "8080");
+
+        assertTrue(allocatedPerParse <= 32, "allocated " + allocatedPerParse + " bytes per parse");
+    }
+
+    private static long allocatedPerParse(Class<?> optionsClass, String... arguments) {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < 50_000; i++) Args.parse(optionsClass, arguments);
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 10_000; i++) Args.parse(optionsClass, arguments);
+        return (threads.getCurrentThreadAllocatedBytes() - before) / 10_000;
+    }
+
+    @Test
+    public void should_expand_argument_file() throws IOException {
+        Path file = Files.createTempFile("args", ".txt");
+        Files.writeString(file, """
+                # server options
+                -p 8080
+                -d "/usr/my logs"
+                """);
+
+        MultiOptions options = Args.parse(MultiOptions.class, "-l", "@" + file);
+
+        assertEquals(new MultiOptions(true, 8080, "/usr/my logs"), options);
+    }
+
+    @Test
+    public void should_expand_empty_argument_file() throws Exception {
+        Path file = Files.createTempFile("args", ".txt");
+        FutureTask<MultiOptions> parse = new FutureTask<>(() -> Args.parse(MultiOptions.class, "@" + file));
+        new Thread(parse).start();
+
+        assertEquals(new MultiOptions(false, 0, ""), parse.get());
+    }
+
+    @Test
+    public void should_keep_value_starting_with_at_sign_if_not_a_file() {
+        MultiOptions options = Args.parse(MultiOptions.class, "-d", "@alice");
+
+        assertEquals("@alice", options.directory());
+    }
+
+    @Test
+    public void should_unescape_double_at_sign_as_literal_value() throws IOException {
+        Path file = Files.createTempFile("args", ".txt");
+
+        MultiOptions options = Args.parse(MultiOptions.class, "-d", "@@" + file);
+
+        assertEquals("@" + file, options.directory());
+    }
+
+    @Test
+    public void should_expand_large_argument_file_into_list_option() throws IOException {
+        Path file = Files.createTempFile("args", ".txt");
+        Files.writeString(file, "-d " + IntStream.range(0, 200_000).mapToObj(i -> String.valueOf(-i)).collect(Collectors.joining(" ")));
+
+        ListOptions options = Args.parse(ListOptions.class, "-g", "ids", "@" + file);
+
+        assertArrayEquals(new String[]{"ids"}, options.group());
+        assertArrayEquals(IntStream.range(0, 200_000).map(i -> -i).toArray(), options.decimals());
+    }
+
+    @Test
+    public void should_parse_all_argument_vectors_in_order() {
+        List<ParseResult<MultiOptions>> results = Args.parseAll(MultiOptions.class,
+                IntStream.range(0, 1000).mapToObj(i -> new String[]{"-p", String.valueOf(i)})).toList();
+
+        assertEquals(IntStream.range(0, 1000).boxed().toList(), results.stream().map(it -> it.options().port()).toList());
+    }
+
+    @Test
+    public void should_capture_error_for_each_failed_argument_vector() {
+        List<ParseResult<MultiOptions>> results = Args.parseAll(MultiOptions.class, Stream.of(
+                new String[]{"-p", "8080"},
+                new String[]{"-p", "8080", "8081"},
+                new String[]{"-l"})).toList();
+
+        assertTrue(results.get(0).isParsed());
+        assertFalse(results.get(1).isParsed());
+        assertInstanceOf(TooManyArgumentsException.class, results.get(1).error().getCause());
+        assertEquals(new MultiOptions(true, 0, ""), results.get(2).options());
+    }
+
+    @Test
+    public void should_parse_all_argument_vectors_unordered() {
+        Set<Integer> ports = Args.parseAllUnordered(MultiOptions.class,
+                        IntStream.range(0, 1000).mapToObj(i -> new String[]{"-p", String.valueOf(i)}))
+                .map(it -> it.options().port()).collect(Collectors.toSet());
+
+        assertEquals(IntStream.range(0, 1000).boxed().collect(Collectors.toSet()), ports);
+    }
+
+    @Test
+    public void should_record_metrics_for_each_option() {
+        ParseMetrics metrics = new ParseMetrics();
+        Args.listen(metrics);
+        try {
+            Args.parse(MultiOptions.class, "-l", "-p", "8080");
+            Args.parse(MultiOptions.class, "-p", "9090", "-d", "/usr/logs");
+            assertThrows(RuntimeException.class, () -> Args.parse(MultiOptions.class, "-p", "8080", "8081"));
+        } finally {
+            Args.listen(null);
+        }
+
+        assertEquals(Set.of("l", "p", "d"), metrics.of(MultiOptions.class).keySet());
+        assertEquals(3, metrics.of(MultiOptions.class, "l").count());
+        assertEquals(3, metrics.of(MultiOptions.class, "p").count());
+        assertEquals(1, metrics.of(MultiOptions.class, "p").errors());
+        assertTrue(metrics.of(MultiOptions.class, "p").maxNanos() > 0);
+    }
+
+    @Test
+    public void should_record_metrics_when_option_of_interface_accessed() {
+        ParseMetrics metrics = new ParseMetrics();
+        Args.listen(metrics);
+        try {
+            LazyOptions options = Args.parse(LazyOptions.class, "-p", "8080");
+            assertEquals(0, metrics.of(LazyOptions.class, "p").count());
+            options.port();
+            assertEquals(1, metrics.of(LazyOptions.class, "p").count());
+        } finally {
+            Args.listen(null);
+        }
+    }
+
+    @Test
+    public void should_not_record_metrics_after_listener_removed() {
+        ParseMetrics metrics = new ParseMetrics();
+        Args.listen(metrics);
+        Args.listen(null);
+        Args.parse(MultiOptions.class, "-l");
+        assertEquals(0, metrics.of(MultiOptions.class, "l").count());
+    }
+
+    @Test
+    public void should_emit_jfr_event_for_each_option() throws IOException {
+        Path file = Files.createTempFile("args", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("tdd.args.OptionParse");
+            recording.start();
+            Args.listen(ParseListener.jfr());
+            try {
+                Args.parse(PrimitiveOptions.class, "-l", "-q", "9");
+            } finally {
+                Args.listen(null);
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<String> options = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("tdd.args.OptionParse"))
+                .map(event -> event.getString("option")).toList();
+        assertEquals(List.of("l", "q"), options);
+    }
+
+    @Test
+    public void should_parse_built_in_option_types() {
+        TypedOptions options = Args.parse(TypedOptions.class, "-s", "4294967296", "-r", "0.5", "-t", "PT30S",
+                "-c", "/etc/app.conf", "-a", "[::1]:8080", "-m", "FAST");
+
+        assertEquals(4294967296L, options.size());
+        assertEquals(0.5, options.ratio());
+        assertEquals(Duration.ofSeconds(30), options.timeout());
+        assertEquals(Path.of("/etc/app.conf"), options.config());
+        assertEquals(InetSocketAddress.createUnresolved("::1", 8080), options.address());
+        assertEquals(Mode.FAST, options.mode());
+    }
+
+    @Test
+    public void should_set_default_value_for_built_in_option_types() {
+        assertEquals(new TypedOptions(0, 0, null, null, null, null), Args.parse(TypedOptions.class));
+    }
+
+    enum Mode {FAST, SAFE}
+
+    static record TypedOptions(@Option("s") long size, @Option("r") double ratio, @Option("t") Duration timeout,
+                               @Option("c") Path config, @Option("a") InetSocketAddress address, @Option("m") Mode mode) {
+    }
+
+    @Test
+    public void should_parse_option_with_registered_parser() {
+        Args.register(Version.class, OptionParsers.unary(new Version(0, 0), Version::parse));
+
+        assertEquals(new Version(1, 2), Args.parse(VersionOptions.class, "-v", "1.2").version());
+    }
+
+    @Test
+    public void should_use_parser_registered_after_options_class_parsed() {
+        Args.register(Revision.class, OptionParsers.unary(null, value -> new Revision(value, false)));
+        assertEquals(new Revision("r1", false), Args.parse(RevisionOptions.class, "-r", "r1").revision());
+
+        Args.register(Revision.class, OptionParsers.unary(null, value -> new Revision(value, true)));
+
+        assertEquals(new Revision("r1", true), Args.parse(RevisionOptions.class, "-r", "r1").revision());
+    }
+
+    static record Revision(String value, boolean replaced) {
+    }
+
+    static record RevisionOptions(@Option("r") Revision revision) {
+    }
+
+    static record Version(int major, int minor) {
+        static Version parse(String value) {
+            String[] parts = value.split("\\.");
+            return new Version(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+        }
+    }
+
+    static record VersionOptions(@Option("v") Version version) {
+    }
+
+    @Test
+    public void should_throw_unsupported_option_type_exception_if_no_parser_registered() {
+        UnsupportedOptionTypeException e = assertThrows(UnsupportedOptionTypeException.class, () -> Args.parse(UnsupportedOptions.class, "-o", "x"));
+        assertEquals(Object.class, e.getType());
+    }
+
+    static record UnsupportedOptions(@Option("o") Object value) {
+    }
+
+    @Test
+    public void should_parse_options_interface() {
+        LazyOptions options = Args.parse(LazyOptions.class, "-l", "-p", "8080", "-d", "/usr/logs");
+        assertTrue(options.logging());
+        assertEquals(8080, options.port());
+        assertEquals("/usr/logs", options.directory());
+        assertEquals("8080:/usr/logs", options.address());
+    }
+
+    @Test
+    public void should_only_parse_option_of_interface_when_accessed() {
+        LazyOptions options = Args.parse(LazyOptions.class, "-l", "-p", "not-a-port");
+        assertTrue(options.logging());
+        assertThrows(NumberFormatException.class, options::port);
+    }
+
+    @Test
+    public void should_memoize_parsed_option_of_interface() {
+        Args.register(Token.class, OptionParsers.unary(null, Token::new));
+        TokenOptions options = Args.parse(TokenOptions.class, "-t", "secret");
+        assertSame(options.token(), options.token());
+        assertEquals(new Token("secret"), options.token());
+    }
+
+    @Test
+    public void should_throw_illegal_option_exception_if_unknown_flag_given_to_interface() {
+        IllegalOptionException e = assertThrows(IllegalOptionException.class, () -> Args.parse(LazyOptions.class, "-l", "-x"));
+        assertEquals("x", e.getParameter());
+    }
+
+    @Test
+    public void should_throw_illegal_option_exception_if_annotation_not_present_on_interface_method() {
+        IllegalOptionException e = assertThrows(IllegalOptionException.class, () -> Args.parse(InterfaceWithoutAnnotation.class, "-l"));
+        assertEquals("port", e.getParameter());
+    }
+
+    interface LazyOptions {
+        @Option("l")
+        boolean logging();
+
+        @Option("p")
+        int port();
+
+        @Option("d")
+        String directory();
+
+        default String address() {
+            return port() + ":" + directory();
+        }
+    }
+
+    static class Token {
+        final String value;
+
+        Token(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Token token && token.value.equals(value);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+    }
+
+    interface TokenOptions {
+        @Option("t")
+        Token token();
+    }
+
+    interface InterfaceWithoutAnnotation {
+        @Option("l")
+        boolean logging();
+
+        int port();
+    }
 
     @Test
-    @Disabled
     public void should_example_2() {
         ListOptions options = Args.parse(ListOptions.class, "-g", "this", "is", "a", "list", "-d", "1", "2", "-3", "5");
-        assertEquals(new String[]{"this", "is", "a", "list"}, options.group());
-        assertEquals(new int[]{1, 2, -3, 5}, options.decimals());
+        assertArrayEquals(new String[]{"this", "is", "a", "list"}, options.group());
+        assertArrayEquals(new int[]{1, 2, -3, 5}, options.decimals());
     }
 
     static record ListOptions(@Option("g") String[] group, @Option("d") int[] decimals) {
     }
+
+    @Test
+    public void should_parse_long_list_option() {
+        LongListOptions options = Args.parse(LongListOptions.class, "-i", "4294967296", "-1", "-l");
+        assertArrayEquals(new long[]{4294967296L, -1L}, options.ids());
+        assertTrue(options.logging());
+    }
+
+    static record LongListOptions(@Option("i") long[] ids, @Option("l") boolean logging) {
+    }
 }
@@ -0,0 +1,25 @@
+package tdd.args;
+
+public final class ArgsTest_GeneratedOptions_ArgsParser implements ArgsParser<ArgsTest.GeneratedOptions> {
+    @Override
+    public String[] options() {
+        return new String[]{"l", "p"};
+    }
+
+    @Override
+    public Class<?>[] types() {
+        return new Class<?>[]{boolean.class, int.class};
+    }
+
+    @Override
+    public ArgsTest.GeneratedOptions create(Object[] values) {
+        return new ArgsTest.GeneratedOptions((boolean) values[0], (int) values[1], true);
+    }
+
+    @Override
+    public ArgsTest.GeneratedOptions create(Arguments arguments, OptionParser<?>[] parsers, Option[] options) {
+        return new ArgsTest.GeneratedOptions(parsers[0] instanceof BooleanOptionParser ? ((BooleanOptionParser) parsers[0]).parseBoolean(arguments, options[0]) : (Boolean) parsers[0].parse(arguments, options[0]),
+                parsers[1] instanceof IntOptionParser ? ((IntOptionParser) parsers[1]).parseInt(arguments, options[1]) : (Integer) parsers[1].parse(arguments, options[1]),
+                true);
+    }
+}
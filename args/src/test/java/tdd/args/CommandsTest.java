@@ -0,0 +1,126 @@
+package tdd.args;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommandsTest {
+    Commands commands = Commands.builder()
+            .command("build", BuildOptions.class)
+            .command("bundle", BundleOptions.class)
+            .command("serve", ServeOptions.class)
+            .build();
+
+    Commands abbreviated = Commands.builder()
+            .command("build", BuildOptions.class)
+            .command("bundle", BundleOptions.class)
+            .command("serve", ServeOptions.class)
+            .abbreviations(true)
+            .build();
+
+    @Test
+    public void should_dispatch_to_options_class_of_command() {
+        assertEquals(new BuildOptions(true, "/out"), commands.parse("build", "-verbose", "-output", "/out"));
+        assertEquals(new ServeOptions(8080), commands.parse("serve", "-port", "8080"));
+    }
+
+    @Test
+    public void should_throw_illegal_command_exception_if_command_unknown() {
+        IllegalCommandException e = assertThrows(IllegalCommandException.class, () -> commands.parse("deploy"));
+        assertEquals("deploy", e.getCommand());
+    }
+
+    @Test
+    public void should_throw_illegal_command_exception_if_no_command_given() {
+        assertThrows(IllegalCommandException.class, () -> commands.parse());
+    }
+
+    @Test
+    public void should_not_accept_command_prefix_by_default() {
+        assertThrows(IllegalCommandException.class, () -> commands.parse("se", "-port", "8080"));
+    }
+
+    @Nested
+    class Abbreviations {
+        @Test
+        public void should_dispatch_to_command_by_unambiguous_prefix() {
+            assertEquals(new ServeOptions(8080), abbreviated.parse("se", "-port", "8080"));
+            assertEquals(new BuildOptions(false, ""), abbreviated.parse("bui"));
+        }
+
+        @Test
+        public void should_throw_illegal_command_exception_if_prefix_ambiguous() {
+            IllegalCommandException e = assertThrows(IllegalCommandException.class, () -> abbreviated.parse("b"));
+            assertEquals("b", e.getCommand());
+        }
+
+        @Test
+        public void should_expand_unambiguous_flag_prefix() {
+            assertEquals(new BuildOptions(true, "/out"), abbreviated.parse("build", "-v", "-out", "/out"));
+        }
+
+        @Test
+        public void should_prefer_exact_flag_over_longer_flag() {
+            assertEquals(new BundleOptions(true, false), abbreviated.parse("bundle", "-min"));
+        }
+
+        @Test
+        public void should_throw_illegal_option_exception_if_flag_prefix_ambiguous() {
+            IllegalOptionException e = assertThrows(IllegalOptionException.class, () -> abbreviated.parse("bundle", "-mi"));
+            assertEquals("mi", e.getParameter());
+        }
+
+        @Test
+        public void should_not_accept_empty_command() {
+            Commands single = Commands.builder().command("serve", ServeOptions.class).abbreviations(true).build();
+            assertThrows(IllegalCommandException.class, () -> single.parse("", "-port", "8080"));
+        }
+    }
+
+    @Nested
+    class Trie {
+        @Test
+        public void should_find_value_by_exact_key() {
+            PrefixTrie<Integer> trie = new PrefixTrie<>();
+            trie.put("serve", 1);
+            trie.put("server", 2);
+            assertEquals(1, trie.get("serve", 0, false));
+            assertEquals(2, trie.get("server", 0, false));
+            assertNull(trie.get("serv", 0, false));
+        }
+
+        @Test
+        public void should_find_value_by_unique_prefix_from_offset() {
+            PrefixTrie<Integer> trie = new PrefixTrie<>();
+            trie.put("verbose", 1);
+            trie.put("version", 2);
+            assertEquals(1, trie.get("-verb", 1, true));
+            assertNull(trie.get("-ver", 1, true));
+        }
+
+        @Test
+        public void should_not_match_empty_key() {
+            PrefixTrie<Integer> trie = new PrefixTrie<>();
+            trie.put("serve", 1);
+            assertNull(trie.get("", 0, true));
+            assertNull(trie.get("-", 1, true));
+        }
+
+        @Test
+        public void should_not_accept_duplicated_key() {
+            PrefixTrie<Integer> trie = new PrefixTrie<>();
+            trie.put("build", 1);
+            assertThrows(IllegalArgumentException.class, () -> trie.put("build", 2));
+        }
+    }
+
+    record BuildOptions(@Option("verbose") boolean verbose, @Option("output") String output) {
+    }
+
+    record BundleOptions(@Option("min") boolean min, @Option("minify") boolean minify) {
+    }
+
+    record ServeOptions(@Option("port") int port) {
+    }
+}
@@ -5,9 +5,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.*;
@@ -50,6 +55,103 @@ public class OptionParsersTest {
         }
     }
 
+    @Nested
+    class PrimitiveOptionParser {
+        @Test // happy path
+        public void should_parse_primitive_value_without_boxing() {
+            Arguments arguments = new Arguments("-p", "8080", "-s", "-4294967296", "-r", "0.5");
+            assertEquals(8080, OptionParsers.intValue(0).parseInt(arguments, option("p")));
+            assertEquals(-4294967296L, OptionParsers.longValue(0).parseLong(arguments, option("s")));
+            assertEquals(0.5, OptionParsers.doubleValue(0).parseDouble(arguments, option("r")));
+        }
+
+        @Test // default value
+        public void should_set_default_value_if_option_not_present() {
+            Arguments arguments = new Arguments(List.of());
+            assertEquals(-1, OptionParsers.intValue(-1).parseInt(arguments, option("p")));
+            assertEquals(-1L, OptionParsers.longValue(-1).parseLong(arguments, option("s")));
+            assertEquals(-1.0, OptionParsers.doubleValue(-1).parseDouble(arguments, option("r")));
+        }
+
+        @Test // sad path
+        public void should_not_accept_extra_argument_for_primitive_option() {
+            TooManyArgumentsException e = assertThrows(TooManyArgumentsException.class, () -> {
+                OptionParsers.intValue(0).parse(asList("-p", "8080", "8081"), option("p"));
+            });
+            assertEquals("p", e.getOption());
+        }
+    }
+
+    @Nested
+    class ListOptionParser {
+        @Test // default value
+        public void should_set_default_value_to_empty_array_if_option_not_present() {
+            assertArrayEquals(new int[0], OptionParsers.ints().parse(List.of(), option("d")));
+            assertArrayEquals(new long[0], OptionParsers.longs().parse(List.of(), option("d")));
+            assertArrayEquals(new String[0], OptionParsers.strings().parse(List.of(), option("g")));
+        }
+
+        @Test // happy path
+        public void should_parse_values_until_next_flag() {
+            assertArrayEquals(new String[]{"this", "is"}, OptionParsers.strings().parse(asList("-g", "this", "is", "-l"), option("g")));
+        }
+
+        @Test // happy path
+        public void should_parse_negative_numbers_as_values() {
+            assertArrayEquals(new int[]{1, 2, -3}, OptionParsers.ints().parse(asList("-d", "1", "2", "-3"), option("d")));
+            assertArrayEquals(new long[]{-4294967296L}, OptionParsers.longs().parse(asList("-d", "-4294967296", "-l"), option("d")));
+        }
+
+        @Test // edge case
+        public void should_accept_flag_without_values() {
+            assertArrayEquals(new int[0], OptionParsers.ints().parse(asList("-d", "-l"), option("d")));
+        }
+    }
+
+    @Nested
+    class FlagIndex {
+        @Test
+        public void should_share_one_index_between_parsers() {
+            Arguments arguments = new Arguments(asList("-l", "-p", "8080", "-d", "/usr/logs"));
+
+            assertTrue(OptionParsers.bool().parse(arguments, option("l")));
+            assertEquals(8080, OptionParsers.unary(0, Integer::parseInt).parse(arguments, option("p")));
+            assertEquals("/usr/logs", OptionParsers.unary("", String::valueOf).parse(arguments, option("d")));
+        }
+
+        @Test
+        public void should_use_first_occurrence_of_repeated_flag() {
+            assertEquals(8080, OptionParsers.unary(0, Integer::parseInt).parse(asList("-p", "8080", "-p", "9090"), option("p")));
+        }
+
+        @Test
+        public void should_index_flags_read_from_argument_file() throws IOException {
+            Path file = Files.createTempFile("args", ".txt");
+            Files.writeString(file, IntStream.range(0, 300).mapToObj(i -> "-f" + i + " " + i).collect(Collectors.joining("\n")));
+            Arguments arguments = new Arguments("-f7", "first", "@" + file);
+
+            assertEquals(150, OptionParsers.unary(0, Integer::parseInt).parse(arguments, option("f150")));
+            assertEquals("first", OptionParsers.unary("", String::valueOf).parse(arguments, option("f7")));
+        }
+
+        @Test
+        public void should_drop_large_index_on_release() throws IOException {
+            Path file = Files.createTempFile("args", ".txt");
+            Files.writeString(file, IntStream.range(0, 10_000).mapToObj(i -> "-f" + i + " " + i).collect(Collectors.joining("\n")));
+            Arguments arguments = new Arguments("@" + file);
+            arguments.release();
+
+            assertEquals(0, arguments.capacity());
+            assertEquals(8080, OptionParsers.unary(0, Integer::parseInt).parse(arguments.reset(new String[]{"-p", "8080"}), option("p")));
+        }
+
+        @Test
+        public void should_not_treat_value_as_flag() {
+            Arguments arguments = new Arguments(asList("-d", "p"));
+            assertEquals(-1, arguments.indexOf(option("p")));
+        }
+    }
+
     @Nested
     class BooleanOptionParser {
         @Test // SadPath
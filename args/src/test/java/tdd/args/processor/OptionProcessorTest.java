@@ -0,0 +1,89 @@
+package tdd.args.processor;
+
+import org.junit.jupiter.api.Test;
+import tdd.args.Args;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OptionProcessorTest {
+    @Test
+    public void should_generate_parser_for_options_record() throws Exception {
+        Path output = compile("sample.ServerOptions", """
+                package sample;
+
+                import tdd.args.Option;
+
+                public record ServerOptions(@Option("l") boolean logging, @Option("p") int port, @Option("d") String directory) {
+                }
+                """);
+
+        assertTrue(Files.exists(output.resolve("sample/ServerOptions_ArgsParser.class")));
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> optionsClass = loader.loadClass("sample.ServerOptions");
+            Object options = Args.parse(optionsClass, "-l", "-p", "8080", "-d", "/usr/logs");
+            assertEquals("ServerOptions[logging=true, port=8080, directory=/usr/logs]", options.toString());
+        }
+    }
+
+    @Test
+    public void should_generate_parser_for_nested_options_class() throws Exception {
+        Path output = compile("sample.Server", """
+                package sample;
+
+                import tdd.args.Option;
+
+                public class Server {
+                    public static class Options {
+                        final boolean logging;
+
+                        public Options(@Option("l") boolean logging) {
+                            this.logging = logging;
+                        }
+                    }
+                }
+                """);
+
+        assertTrue(Files.exists(output.resolve("sample/Server_Options_ArgsParser.class")));
+    }
+
+    @Test
+    public void should_not_generate_parser_if_parameter_not_annotated() throws Exception {
+        Path output = compile("sample.PartialOptions", """
+                package sample;
+
+                import tdd.args.Option;
+
+                public record PartialOptions(@Option("l") boolean logging, int port) {
+                }
+                """);
+
+        assertFalse(Files.exists(output.resolve("sample/PartialOptions_ArgsParser.class")));
+    }
+
+    private static Path compile(String className, String source) throws Exception {
+        Path output = Files.createTempDirectory("args-processor");
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, null,
+                List.of("-d", output.toString(), "-classpath", System.getProperty("java.class.path")), null, List.of(file));
+        task.setProcessors(List.of(new OptionProcessor()));
+        assertTrue(task.call());
+        return output;
+    }
+}
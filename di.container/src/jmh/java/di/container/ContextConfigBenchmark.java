@@ -0,0 +1,77 @@
+package di.container;
+
+import jakarta.inject.Named;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ContextConfigBenchmark {
+    @Param({"10000", "100000"})
+    int bindings;
+
+    private ContextConfig config;
+    private Map<Component, ComponentProvider<?>> components;
+
+    @Setup
+    public void setUp() {
+        config = new ContextConfig();
+        components = new HashMap<>();
+        for (int i = 0; i < bindings; i++) {
+            Annotation qualifier = new NamedLiteral(String.valueOf(i));
+            List<ComponentRef<?>> dependencies = i == 0 ? List.of() : List.of(
+                    ComponentRef.of(Object.class, new NamedLiteral(String.valueOf(i - 1))),
+                    ComponentRef.of(Object.class, new NamedLiteral(String.valueOf(i / 2))));
+            ComponentProvider<Object> provider = new ComponentProvider<>() {
+                @Override
+                public Object get(Context context) {
+                    return qualifier;
+                }
+
+                @Override
+                public List<ComponentRef<?>> getDependencies() {
+                    return dependencies;
+                }
+            };
+            config.bind(Object.class, List.of(qualifier), provider);
+            components.put(new Component(Object.class, qualifier), provider);
+        }
+        config.getContext();
+    }
+
+    @Benchmark
+    public List<Component> validate() {
+        return DependencyGraph.sort(components);
+    }
+
+    @Benchmark
+    public Context getContext() {
+        ContextConfig config = new ContextConfig();
+        components.forEach((component, provider) -> config.bind(Object.class, List.of(component.qualifier()), provider));
+        return config.getContext();
+    }
+
+    @Benchmark
+    public Context getChildContext() {
+        ContextConfig child = config.child();
+        Object tenant = new Object();
+        child.bind(Object.class, List.of(new NamedLiteral(String.valueOf(bindings - 1))), context -> tenant);
+        return child.getContext();
+    }
+
+    record NamedLiteral(String value) implements Named {
+        @Override
+        public Class<? extends Annotation> annotationType() {
+            return Named.class;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package di.container;
+
+import jakarta.inject.Provider;
+
+import java.util.Optional;
+
+abstract class ComponentContext implements Context {
+    abstract ComponentProvider<?> provider(Component component);
+
+    @Override
+    public <ComponentType> Optional<ComponentType> get(ComponentRef<ComponentType> ref) {
+        if (ref.isContainer()) {
+            if (ref.getContainer() != Provider.class) return Optional.empty();
+            return (Optional<ComponentType>) Optional.ofNullable(provider(ref.component()))
+                    .map(provider -> (Provider<Object>) () -> provider.get(this));
+        }
+        return Optional.ofNullable(provider(ref.component())).map(provider -> (ComponentType) provider.get(this));
+    }
+}
@@ -4,10 +4,18 @@ import java.util.List;
 
 import static java.util.List.of;
 
-interface ComponentProvider<T> {
+public interface ComponentProvider<T> {
     T get(Context context);
 
     default List<ComponentRef<?>> getDependencies() {
         return of();
     }
+
+    default ComponentProvider<T> compile(Linker linker) {
+        return this;
+    }
+
+    default ComponentProvider<T> copy() {
+        return this;
+    }
 }
@@ -6,10 +6,16 @@ import java.lang.reflect.Type;
 import java.util.Objects;
 
 public class ComponentRef<ComponentType> {
-    static <ComponentType> ComponentRef<ComponentType> of(Class<ComponentType> component) {
+    public static <ComponentType> ComponentRef<ComponentType> of(Class<ComponentType> component) {
         return new ComponentRef<>(component);
     }
 
+    public static ComponentRef<?> ofContainer(Class<?> container, Class<?> component) {
+        ComponentRef<?> ref = new ComponentRef<>(component, null);
+        ref.container = container;
+        return ref;
+    }
+
     static <ComponentType> ComponentRef<ComponentType> of(Class<ComponentType> component, Annotation qualifier) {
         return new ComponentRef<>(component, qualifier);
     }
@@ -1,32 +1,80 @@
 package di.container;
 
-import jakarta.inject.Provider;
+import di.container.processor.ComponentIndexProcessor;
+import di.container.processor.InjectProcessor;
 import jakarta.inject.Qualifier;
 import jakarta.inject.Scope;
 import jakarta.inject.Singleton;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class ContextConfig {
+    private static final ClassValue<Optional<Constructor<?>>> FACTORIES = new ClassValue<>() {
+        @Override
+        protected Optional<Constructor<?>> computeValue(Class<?> implementation) {
+            String packageName = implementation.getPackageName();
+            String nestedName = packageName.isEmpty() ? implementation.getName() : implementation.getName().substring(packageName.length() + 1);
+            String factoryName = (packageName.isEmpty() ? "" : packageName + ".") + nestedName.replace('$', '_') + InjectProcessor.SUFFIX;
+            try {
+                return Optional.of(Class.forName(factoryName, true, implementation.getClassLoader()).getDeclaredConstructor());
+            } catch (ClassNotFoundException e) {
+                return Optional.empty();
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    };
+
     private final Map<Component, ComponentProvider<?>> components = new HashMap<Component, ComponentProvider<?>>();
     private final Map<Class<?>, ScopeProvider> scopes = new HashMap<>();
+    private final boolean lazy;
+    private final ContextConfig parent;
+    private ContextGraph graph;
 
     public ContextConfig() {
+        this(false);
+    }
+
+    public ContextConfig(boolean lazy) {
+        this.lazy = lazy;
+        this.parent = null;
         scope(Singleton.class, SingletonProvider::new);
+        scope(RequestScoped.class, RequestScopeProvider::new);
+    }
+
+    private ContextConfig(ContextConfig parent) {
+        this.lazy = parent.lazy;
+        this.parent = parent;
+        scopes.putAll(parent.scopes);
+    }
+
+    public ContextConfig child() {
+        return new ContextConfig(this);
     }
 
     public <Type> void bind(Class<Type> type, Type instance) {
-        components.put(new Component(type, null), context -> instance);
+        put(new Component(type, null), context -> instance);
     }
 
     public <Type> void bind(Class<Type> type, Type instance, Annotation... qualifiers) {
         if (Arrays.stream(qualifiers).anyMatch(q -> !q.annotationType().isAnnotationPresent(Qualifier.class)))
             throw new IllegalComponentException();
         for (Annotation qualifier : qualifiers) {
-            components.put(new Component(type, qualifier), context -> instance);
+            put(new Component(type, qualifier), context -> instance);
         }
     }
 
@@ -37,23 +85,98 @@ public class ContextConfig {
 
     public <Type, Implementation extends Type>
     void bind(Class<Type> type, Class<Implementation> implementation, Annotation... annotations) {
+        bind(List.of(type), implementation, annotations);
+    }
+
+    private void bind(List<Class<?>> types, Class<?> implementation, Annotation... annotations) {
         Map<Class<?>, List<Annotation>> annotationGroups = Arrays.stream(annotations).collect(Collectors.groupingBy(this::typeOf, Collectors.toList()));
 
         if (annotationGroups.containsKey(Illegal.class)) throw new IllegalComponentException();
 
-        bind(type, annotationGroups.getOrDefault(Qualifier.class, List.of()), createScopeProvider(implementation, annotationGroups.getOrDefault(Scope.class, List.of())));
+        ComponentProvider<?> provider = createScopeProvider(implementation, annotationGroups.getOrDefault(Scope.class, List.of()));
+        for (Class<?> type : types) bind(type, annotationGroups.getOrDefault(Qualifier.class, List.of()), provider);
+    }
+
+    public void bindIndexed() {
+        bindIndexed(ContextConfig.class.getClassLoader());
+    }
+
+    public void bindIndexed(ClassLoader loader) {
+        List<Indexed> components = new ArrayList<>();
+        try {
+            for (URL index : Collections.list(loader.getResources(ComponentIndexProcessor.INDEX))) {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+                    for (String line = reader.readLine(); line != null; line = reader.readLine())
+                        if (!line.isBlank()) components.add(indexed(line.split("\t", -1), loader));
+                }
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new RuntimeException(e);
+        }
+        Map<Component, Integer> claims = new HashMap<>();
+        for (Indexed component : components)
+            for (Class<?> type : component.types())
+                for (Component key : keys(type, component.qualifiers())) claims.merge(key, 1, Integer::sum);
+        Map<Indexed, List<Class<?>>> bindings = new LinkedHashMap<>();
+        for (Indexed component : components) {
+            List<Class<?>> types = new ArrayList<>();
+            for (int i = 0; i < component.types().size(); i++) {
+                Class<?> type = component.types().get(i);
+                if (keys(type, component.qualifiers()).stream().allMatch(key -> claims.get(key) == 1)) types.add(type);
+                else if (i == 0 || !component.qualifiers().isEmpty()) throw new IllegalComponentException();
+            }
+            bindings.put(component, types);
+        }
+        bindings.forEach((component, types) -> bind(types, component.implementation(), component.annotations()));
+    }
+
+    private static List<Component> keys(Class<?> type, List<Annotation> qualifiers) {
+        if (qualifiers.isEmpty()) return List.of(new Component(type, null));
+        return qualifiers.stream().map(qualifier -> new Component(type, qualifier)).toList();
+    }
+
+    private static Indexed indexed(String[] entry, ClassLoader loader) throws ClassNotFoundException {
+        Class<?> implementation = Class.forName(entry[0], false, loader);
+        List<Annotation> annotations = new ArrayList<>();
+        for (String annotation : entry[2].split(","))
+            if (!annotation.isEmpty())
+                annotations.add(implementation.getAnnotation(Class.forName(annotation, false, loader).asSubclass(Annotation.class)));
+        List<Class<?>> types = new ArrayList<>();
+        for (String type : entry[1].split(",")) types.add(Class.forName(type, false, loader));
+        return new Indexed(implementation, types, annotations.toArray(Annotation[]::new));
+    }
+
+    private record Indexed(Class<?> implementation, List<Class<?>> types, Annotation[] annotations) {
+        List<Annotation> qualifiers() {
+            return Arrays.stream(annotations).filter(a -> a.annotationType().isAnnotationPresent(Qualifier.class)).toList();
+        }
     }
 
     private <Type> ComponentProvider<?> createScopeProvider(Class<Type> implementation, List<Annotation> scopes) {
         if (scopes.size() > 1) throw new IllegalComponentException();
-        ComponentProvider<?> injectionProvider = new InjectionProvider<>(implementation);
+        ComponentProvider<?> injectionProvider = lazy ? new LazyProvider<>(() -> injectionProvider(implementation)) : injectionProvider(implementation);
         return scopes.stream().findFirst().or(() -> getScopeFromType(implementation)).<ComponentProvider<?>>map(s -> getScopeProvider(s, injectionProvider)).orElse(injectionProvider);
     }
 
-    private <Type> void bind(Class<Type> type, List<Annotation> qualifiers, ComponentProvider<?> provider) {
-        if (qualifiers.isEmpty()) components.put(new Component(type, null), provider);
+    private static <Type> ComponentProvider<Type> injectionProvider(Class<Type> implementation) {
+        Optional<Constructor<?>> factory = FACTORIES.get(implementation);
+        if (factory.isEmpty()) return new InjectionProvider<>(implementation);
+        try {
+            return (ComponentProvider<Type>) factory.get().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    <Type> void bind(Class<Type> type, List<Annotation> qualifiers, ComponentProvider<?> provider) {
+        if (qualifiers.isEmpty()) put(new Component(type, null), provider);
         for (Annotation qualifier : qualifiers)
-            components.put(new Component(type, qualifier), provider);
+            put(new Component(type, qualifier), provider);
+    }
+
+    private synchronized void put(Component component, ComponentProvider<?> provider) {
+        components.put(component, provider);
+        graph = null;
     }
 
     private static <Type> Optional<Annotation> getScopeFromType(Class<Type> implementation) {
@@ -70,7 +193,7 @@ public class ContextConfig {
 
     private ComponentProvider<?> getScopeProvider(Annotation scope, ComponentProvider<?> provider) {
         if(!scopes.containsKey(scope.annotationType())) throw new IllegalComponentException();
-        return scopes.get(scope.annotationType()).create(provider);
+        return new ScopedProvider<>(scope.annotationType(), scopes.get(scope.annotationType()), provider);
     }
 
     public <ScopeType extends Annotation> void scope(Class<ScopeType> scope, ScopeProvider provider) {
@@ -78,37 +201,39 @@ public class ContextConfig {
     }
 
     public Context getContext() {
-        components.keySet().forEach(component -> checkDependencies(component, new Stack<>()));
-        return new Context() {
-            @Override
-            public <ComponentType> Optional<ComponentType> get(ComponentRef<ComponentType> ref) {
-                if (ref.isContainer()) {
-                    if (ref.getContainer() != Provider.class) return Optional.empty();
-                    return (Optional<ComponentType>) Optional.ofNullable(getProvider(ref))
-                            .map(provider -> (Provider<Object>) () -> provider.get(this));
-                }
-                return Optional.ofNullable(getProvider(ref)).map(provider -> (ComponentType) provider.get(this));
-            }
-
-        };
+        return graph().context();
     }
 
-    private <ComponentType> ComponentProvider<?> getProvider(ComponentRef<ComponentType> ref) {
-        return components.get(ref.component());
+    private synchronized ContextGraph graph() {
+        ContextGraph base = parent == null ? null : parent.graph();
+        if (graph == null || graph.parent() != base) {
+            if (lazy) components.values().parallelStream().forEach(ComponentProvider::getDependencies);
+            graph = base == null ? ContextGraph.of(components) : base.child(components);
+        }
+        return graph;
     }
 
-    private void checkDependencies(Component component, Stack<Component> visiting) {
-        for (ComponentRef dependency : components.get(component).getDependencies()) {
-            if (!components.containsKey(dependency.component()))
-                throw new DependencyNotFoundException(component, dependency.component());
-            if (!dependency.isContainer()) {
-                if (visiting.contains(dependency.component()))
-                    throw new CyclicDependenciesFoundException(visiting);
-                visiting.push(dependency.component());
-                checkDependencies(dependency.component(), visiting);
-                visiting.pop();
-            }
+    public Context getContext(Executor executor, Consumer<Duration> warmedUp) {
+        ContextGraph graph = graph();
+        long start = System.nanoTime();
+        Map<Component, CompletableFuture<Void>> warmUps = new HashMap<>();
+        for (Component component : graph.order()) warmUps.put(component, warmUp(component, graph, executor, warmUps));
+        try {
+            CompletableFuture.allOf(warmUps.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
         }
+        warmedUp.accept(Duration.ofNanos(System.nanoTime() - start));
+        return graph.context();
+    }
+
+    private CompletableFuture<Void> warmUp(Component component, ContextGraph graph, Executor executor, Map<Component, CompletableFuture<Void>> warmUps) {
+        ComponentProvider<?> provider = graph.provider(component);
+        CompletableFuture<Void> ready = CompletableFuture.allOf(provider.getDependencies().stream()
+                .filter(ref -> !ref.isContainer()).map(ref -> warmUps.get(ref.component())).filter(Objects::nonNull).toArray(CompletableFuture[]::new));
+        if (!ScopedProvider.isScoped(provider, Singleton.class)) return ready;
+        return ready.thenRunAsync(() -> graph.context().get(ComponentRef.of(component.type(), component.qualifier())), executor);
     }
 
 }
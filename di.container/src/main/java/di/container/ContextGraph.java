@@ -0,0 +1,107 @@
+package di.container;
+
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+class ContextGraph {
+    private final ContextGraph parent;
+    private final Map<Component, ComponentProvider<?>> providers;
+    private final Map<Component, ComponentProvider<?>> compiled = new HashMap<>();
+    private final Map<Component, List<Component>> dependents = new HashMap<>();
+    private final List<Component> order;
+    private final Context context;
+
+    private ContextGraph(ContextGraph parent, Map<Component, ComponentProvider<?>> providers) {
+        this.parent = parent;
+        this.providers = providers;
+        this.order = DependencyGraph.sort(providers, component -> parent != null && parent.provider(component) != null);
+        checkSingletons();
+        compile();
+        providers.forEach((component, provider) -> provider.getDependencies().forEach(ref ->
+                dependents.computeIfAbsent(ref.component(), it -> new ArrayList<>()).add(component)));
+        this.context = new ComponentContext() {
+            @Override
+            ComponentProvider<?> provider(Component component) {
+                return compiled(component);
+            }
+        };
+    }
+
+    static ContextGraph of(Map<Component, ComponentProvider<?>> components) {
+        return new ContextGraph(null, new HashMap<>(components));
+    }
+
+    ContextGraph child(Map<Component, ComponentProvider<?>> overrides) {
+        Set<Component> affected = new HashSet<>(overrides.keySet());
+        Deque<Component> pending = new ArrayDeque<>(overrides.keySet());
+        while (!pending.isEmpty())
+            dependents(pending.poll(), dependent -> {
+                if (affected.add(dependent)) pending.add(dependent);
+            });
+        Map<Component, ComponentProvider<?>> providers = new HashMap<>();
+        for (Component component : affected)
+            providers.put(component, overrides.containsKey(component) ? overrides.get(component) : provider(component).copy());
+        return new ContextGraph(this, providers);
+    }
+
+    ContextGraph parent() {
+        return parent;
+    }
+
+    Context context() {
+        return context;
+    }
+
+    List<Component> order() {
+        return order;
+    }
+
+    ComponentProvider<?> provider(Component component) {
+        ComponentProvider<?> provider = providers.get(component);
+        return provider != null || parent == null ? provider : parent.provider(component);
+    }
+
+    private ComponentProvider<?> compiled(Component component) {
+        ComponentProvider<?> provider = compiled.get(component);
+        return provider != null || parent == null ? provider : parent.compiled(component);
+    }
+
+    private void checkSingletons() {
+        Set<Component> visited = new HashSet<>();
+        Deque<Component> pending = new ArrayDeque<>();
+        for (Component singleton : order) {
+            if (!ScopedProvider.isScoped(providers.get(singleton), Singleton.class)) continue;
+            providers.get(singleton).getDependencies().forEach(ref -> pending.push(ref.component()));
+            while (!pending.isEmpty()) {
+                Component component = pending.pop();
+                ComponentProvider<?> provider = provider(component);
+                if (!visited.add(component) || ScopedProvider.isScoped(provider, Singleton.class)) continue;
+                if (ScopedProvider.isScoped(provider, RequestScoped.class)) throw new IllegalComponentException();
+                provider.getDependencies().forEach(ref -> pending.push(ref.component()));
+            }
+        }
+    }
+
+    private void dependents(Component component, Consumer<Component> consumer) {
+        dependents.getOrDefault(component, List.of()).forEach(consumer);
+        if (parent != null) parent.dependents(component, consumer);
+    }
+
+    private void compile() {
+        Map<Component, Deferred> deferred = new HashMap<>();
+        Linker linker = ref -> {
+            if (!ref.isContainer()) return compiled(ref.component());
+            Deferred target = deferred.computeIfAbsent(ref.component(), component -> new Deferred());
+            return context -> (Provider<Object>) () -> target.provider.get(context);
+        };
+        for (Component component : order) compiled.put(component, providers.get(component).compile(linker));
+        deferred.forEach((component, target) -> target.provider = compiled(component));
+    }
+
+    private static class Deferred {
+        private ComponentProvider<?> provider;
+    }
+}
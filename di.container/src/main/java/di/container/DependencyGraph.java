@@ -0,0 +1,90 @@
+package di.container;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+class DependencyGraph {
+    private final Component[] components;
+    private final int[][] dependencies;
+
+    private DependencyGraph(Map<Component, ComponentProvider<?>> providers, Predicate<Component> external) {
+        Map<Component, Integer> ids = new HashMap<>();
+        this.components = providers.keySet().toArray(Component[]::new);
+        for (int i = 0; i < components.length; i++) ids.put(components[i], i);
+        this.dependencies = new int[components.length][];
+        for (int i = 0; i < components.length; i++) {
+            List<ComponentRef<?>> refs = providers.get(components[i]).getDependencies();
+            int[] edges = new int[refs.size()];
+            int size = 0;
+            for (ComponentRef<?> ref : refs) {
+                Integer id = ids.get(ref.component());
+                if (id == null && !external.test(ref.component()))
+                    throw new DependencyNotFoundException(components[i], ref.component());
+                if (id != null && !ref.isContainer()) edges[size++] = id;
+            }
+            dependencies[i] = Arrays.copyOf(edges, size);
+        }
+    }
+
+    static List<Component> sort(Map<Component, ComponentProvider<?>> providers) {
+        return sort(providers, component -> false);
+    }
+
+    static List<Component> sort(Map<Component, ComponentProvider<?>> providers, Predicate<Component> external) {
+        return new DependencyGraph(providers, external).sort();
+    }
+
+    private List<Component> sort() {
+        int count = components.length;
+        int[] index = new int[count];
+        int[] lowLink = new int[count];
+        int[] next = new int[count];
+        boolean[] onStack = new boolean[count];
+        int[] stack = new int[count];
+        int[] path = new int[count];
+        Arrays.fill(index, -1);
+        int counter = 0, top = 0;
+        List<Component> sorted = new ArrayList<>(count);
+        List<Component> cyclic = new ArrayList<>();
+
+        for (int root = 0; root < count; root++) {
+            if (index[root] != -1) continue;
+            int depth = 0;
+            path[depth++] = root;
+            index[root] = lowLink[root] = counter++;
+            stack[top++] = root;
+            onStack[root] = true;
+            while (depth > 0) {
+                int current = path[depth - 1];
+                if (next[current] < dependencies[current].length) {
+                    int dependency = dependencies[current][next[current]++];
+                    if (index[dependency] == -1) {
+                        index[dependency] = lowLink[dependency] = counter++;
+                        stack[top++] = dependency;
+                        onStack[dependency] = true;
+                        path[depth++] = dependency;
+                    } else if (onStack[dependency]) {
+                        lowLink[current] = Math.min(lowLink[current], index[dependency]);
+                    }
+                    continue;
+                }
+                depth--;
+                if (depth > 0) lowLink[path[depth - 1]] = Math.min(lowLink[path[depth - 1]], lowLink[current]);
+                if (lowLink[current] != index[current]) continue;
+                int start = top;
+                do onStack[stack[--start]] = false; while (stack[start] != current);
+                if (top - start > 1 || isSelfDependent(current))
+                    for (int i = start; i < top; i++) cyclic.add(components[stack[i]]);
+                for (int i = start; i < top; i++) sorted.add(components[stack[i]]);
+                top = start;
+            }
+        }
+        if (!cyclic.isEmpty()) throw new CyclicDependenciesFoundException(cyclic);
+        return sorted;
+    }
+
+    private boolean isSelfDependent(int component) {
+        for (int dependency : dependencies[component]) if (dependency == component) return true;
+        return false;
+    }
+}
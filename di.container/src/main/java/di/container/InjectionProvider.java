@@ -4,75 +4,156 @@ import jakarta.inject.Inject;
 import jakarta.inject.Qualifier;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.*;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.stream;
+import static java.lang.invoke.MethodType.methodType;
 import static java.util.Collections.reverse;
 import static java.util.stream.Stream.concat;
 
 class InjectionProvider<T> implements ComponentProvider<T> {
+    private static final ClassValue<Injection<?>> INJECTIONS = new ClassValue<>() {
+        @Override
+        protected Injection<?> computeValue(Class<?> component) {
+            return Injection.of(component);
+        }
+    };
+
     private final Injectable<Constructor<T>> injectConstructor;
     private final List<Injectable<Field>> injectFields;
     private final List<Injectable<Method>> injectMethods;
+    private final List<ComponentRef<?>> dependencies;
 
     InjectionProvider(Class<T> component) {
-        if (Modifier.isAbstract(component.getModifiers())) {
-            throw new IllegalComponentException();
-        }
-        this.injectConstructor = getInjectConstructor(component);
-        this.injectMethods = getInjectMethods(component);
-        this.injectFields = getInjectFields(component);
-
-        if (injectFields.stream().map(Injectable::element).anyMatch(f -> Modifier.isFinal(f.getModifiers()))) {
-            throw new IllegalComponentException();
-        }
+        Injection<T> injection = (Injection<T>) INJECTIONS.get(component);
+        this.injectConstructor = injection.constructor();
+        this.injectFields = injection.fields();
+        this.injectMethods = injection.methods();
+        this.dependencies = injection.dependencies();
+    }
 
-        if (injectMethods.stream().map(Injectable::element).anyMatch(m -> m.getTypeParameters().length != 0)) {
-            throw new IllegalComponentException();
+    private record Injection<T>(Injectable<Constructor<T>> constructor, List<Injectable<Field>> fields,
+                                List<Injectable<Method>> methods, List<ComponentRef<?>> dependencies) {
+        static <T> Injection<T> of(Class<T> component) {
+            if (Modifier.isAbstract(component.getModifiers())) {
+                throw new IllegalComponentException();
+            }
+            Injectable<Constructor<T>> constructor = getInjectConstructor(component);
+            List<Injectable<Method>> methods = getInjectMethods(component);
+            List<Injectable<Field>> fields = getInjectFields(component);
+
+            if (fields.stream().map(Injectable::element).anyMatch(f -> Modifier.isFinal(f.getModifiers()))) {
+                throw new IllegalComponentException();
+            }
+
+            if (methods.stream().map(Injectable::element).anyMatch(m -> m.getTypeParameters().length != 0)) {
+                throw new IllegalComponentException();
+            }
+
+            List<ComponentRef<?>> dependencies = concat(concat(Stream.of(constructor), fields.stream()), methods.stream())
+                    .flatMap(injectable -> stream(injectable.required())).toList();
+            return new Injection<>(constructor, fields, methods, dependencies);
         }
     }
 
-
     @Override
     public T get(Context context) {
-        try {
-            T instance = this.injectConstructor.element().newInstance(injectConstructor.toDependencies(context));
-            for (Injectable<Field> field : injectFields)
-                field.element().set(instance, field.toDependencies(context)[0]);
-            for (Injectable<Method> method : injectMethods)
-                method.element().invoke(instance, method.toDependencies(context));
-            return instance;
-        } catch (InvocationTargetException | InstantiationException | IllegalAccessException e) {
-            throw new RuntimeException(e);
+        return inject(context, null);
+    }
+
+    @Override
+    public ComponentProvider<T> compile(Linker linker) {
+        ComponentProvider<?>[][] slots = new ComponentProvider<?>[1 + injectFields.size() + injectMethods.size()][];
+        slots[0] = linker.link(injectConstructor.required());
+        for (int i = 0; i < injectFields.size(); i++)
+            slots[1 + i] = linker.link(injectFields.get(i).required());
+        for (int i = 0; i < injectMethods.size(); i++)
+            slots[1 + injectFields.size() + i] = linker.link(injectMethods.get(i).required());
+        return context -> inject(context, slots);
+    }
+
+    private T inject(Context context, ComponentProvider<?>[][] slots) {
+        T instance = (T) injectConstructor.inject(null, injectConstructor.toDependencies(context, slots, 0));
+        for (int i = 0; i < injectFields.size(); i++) {
+            Injectable<Field> field = injectFields.get(i);
+            field.inject(instance, field.toDependencies(context, slots, 1 + i));
         }
+        for (int i = 0; i < injectMethods.size(); i++) {
+            Injectable<Method> method = injectMethods.get(i);
+            method.inject(instance, method.toDependencies(context, slots, 1 + injectFields.size() + i));
+        }
+        return instance;
     }
 
 
     @Override
     public List<ComponentRef<?>> getDependencies() {
-       return concat(concat(Stream.of(injectConstructor),injectFields.stream()),injectMethods.stream())
-                .flatMap(injectable -> stream(injectable.required())).toList();
+        return dependencies;
     }
 
-    static record Injectable<Element extends AccessibleObject>(Element element, ComponentRef<?>[] required) {
+    static record Injectable<Element extends AccessibleObject>(Element element, ComponentRef<?>[] required, MethodHandle injector) {
+        private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+        private static final MethodType INJECTOR = methodType(Object.class, Object.class, Object[].class);
+
         static <Element extends Executable> Injectable<Element> of(Element constructor) {
-            return new Injectable<>(constructor, stream(constructor.getParameters()).map(Injectable::toComponentRef).toArray(ComponentRef<?>[]::new));
+            return new Injectable<>(constructor, stream(constructor.getParameters()).map(Injectable::toComponentRef).toArray(ComponentRef<?>[]::new), injector(constructor));
         }
 
         static Injectable<Field> of(Field field) {
-            return new Injectable<>(field, new ComponentRef<?>[]{toComponentRef(field)});
+            return new Injectable<>(field, new ComponentRef<?>[]{toComponentRef(field)}, injector(field));
+        }
+
+        Object inject(Object instance, Object[] dependencies) {
+            try {
+                if (injector != null) return injector.invokeExact(instance, dependencies);
+                if (element instanceof Constructor<?> constructor) return constructor.newInstance(dependencies);
+                if (element instanceof Method method) return method.invoke(instance, dependencies);
+                ((Field) element).set(instance, dependencies[0]);
+                return null;
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private static MethodHandle injector(AccessibleObject element) {
+            try {
+                if (element instanceof Constructor<?> constructor)
+                    return MethodHandles.dropArguments(LOOKUP.unreflectConstructor(constructor)
+                            .asSpreader(Object[].class, constructor.getParameterCount()), 0, Object.class).asType(INJECTOR);
+                if (element instanceof Method method)
+                    return receiver(method, LOOKUP.unreflect(method).asSpreader(Object[].class, method.getParameterCount()));
+                return receiver((Field) element, LOOKUP.unreflectSetter((Field) element).asSpreader(Object[].class, 1));
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+        }
+
+        private static MethodHandle receiver(Member member, MethodHandle injector) {
+            if (Modifier.isStatic(member.getModifiers())) injector = MethodHandles.dropArguments(injector, 0, Object.class);
+            return injector.asType(INJECTOR);
         }
 
         Object[] toDependencies(Context context) {
             return stream(required).map(context::get).map(Optional::get).toArray();
         }
 
+        Object[] toDependencies(Context context, ComponentProvider<?>[][] slots, int index) {
+            if (slots == null) return toDependencies(context);
+            ComponentProvider<?>[] providers = slots[index];
+            Object[] dependencies = new Object[providers.length];
+            for (int i = 0; i < providers.length; i++) dependencies[i] = providers[i].get(context);
+            return dependencies;
+        }
+
         private static ComponentRef<?> toComponentRef(Field field) {
             return ComponentRef.of(field.getGenericType(), getQualifier(field));
         }
@@ -101,10 +182,17 @@ class InjectionProvider<T> implements ComponentProvider<T> {
     }
 
     private static List<Injectable<Method>> getInjectMethods(Class<?> component) {
-        List<Method> injectMethods = traverse(component, (methods, current) -> injectable(methods.getDeclaredMethods())
-                .filter(m -> isOverrideByInjectMethod(m, current))
-                .filter(m -> isOverrideByNoInjectMethod(component, m))
-                .toList());
+        Set<Signature> noInjectMethods = stream(component.getDeclaredMethods())
+                .filter(m -> !m.isAnnotationPresent(Inject.class)).map(Signature::of).collect(Collectors.toSet());
+        Set<Signature> injected = new HashSet<>();
+        List<Method> injectMethods = traverse(component, (current, methods) -> {
+            List<Method> found = injectable(current.getDeclaredMethods())
+                    .filter(m -> !injected.contains(Signature.of(m)))
+                    .filter(m -> !noInjectMethods.contains(Signature.of(m)))
+                    .toList();
+            found.forEach(m -> injected.add(Signature.of(m)));
+            return found;
+        });
         reverse(injectMethods);
         return injectMethods.stream().map(Injectable::of).toList();
     }
@@ -113,16 +201,10 @@ class InjectionProvider<T> implements ComponentProvider<T> {
         return stream(declaredFields).filter(f -> f.isAnnotationPresent(Inject.class));
     }
 
-    private static boolean isOverride(Method m, Method o) {
-        return o.getName().equals(m.getName()) && Arrays.equals(o.getParameterTypes(), m.getParameterTypes());
-    }
-
-    private static boolean isOverrideByInjectMethod(Method m, List<Method> injectMethods) {
-        return injectMethods.stream().noneMatch(o -> isOverride(m, o));
-    }
-
-    private static <T> boolean isOverrideByNoInjectMethod(Class<T> component, Method m) {
-        return stream(component.getDeclaredMethods()).filter(m1 -> !m1.isAnnotationPresent(Inject.class)).noneMatch(o -> isOverride(m, o));
+    private record Signature(String name, List<Class<?>> parameterTypes) {
+        static Signature of(Method method) {
+            return new Signature(method.getName(), List.of(method.getParameterTypes()));
+        }
     }
 
     private static <Type> Constructor<Type> defaultConstructor(Class<Type> implementation) {
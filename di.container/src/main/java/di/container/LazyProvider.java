@@ -0,0 +1,34 @@
+package di.container;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+class LazyProvider<T> implements ComponentProvider<T> {
+    private final Supplier<ComponentProvider<T>> factory;
+    private volatile ComponentProvider<T> provider;
+
+    LazyProvider(Supplier<ComponentProvider<T>> factory) {
+        this.factory = factory;
+    }
+
+    private ComponentProvider<T> provider() {
+        ComponentProvider<T> provider = this.provider;
+        if (provider == null) this.provider = provider = factory.get();
+        return provider;
+    }
+
+    @Override
+    public T get(Context context) {
+        return provider().get(context);
+    }
+
+    @Override
+    public List<ComponentRef<?>> getDependencies() {
+        return provider().getDependencies();
+    }
+
+    @Override
+    public ComponentProvider<T> compile(Linker linker) {
+        return provider().compile(linker);
+    }
+}
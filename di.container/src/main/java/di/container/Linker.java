@@ -0,0 +1,11 @@
+package di.container;
+
+public interface Linker {
+    ComponentProvider<?> link(ComponentRef<?> ref);
+
+    default ComponentProvider<?>[] link(ComponentRef<?>[] refs) {
+        ComponentProvider<?>[] providers = new ComponentProvider<?>[refs.length];
+        for (int i = 0; i < refs.length; i++) providers[i] = link(refs[i]);
+        return providers;
+    }
+}
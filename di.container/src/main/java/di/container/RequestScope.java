@@ -0,0 +1,50 @@
+package di.container;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+public final class RequestScope extends ComponentContext implements AutoCloseable {
+    private final ComponentContext parent;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Map<Object, Object> instances = new ConcurrentHashMap<>();
+
+    private RequestScope(ComponentContext parent) {
+        this.parent = parent;
+    }
+
+    public static RequestScope open(Context context) {
+        if (!(context instanceof ComponentContext parent)) throw new IllegalArgumentException();
+        return new RequestScope(parent);
+    }
+
+    @Override
+    ComponentProvider<?> provider(Component component) {
+        return parent.provider(component);
+    }
+
+    <T> T get(Object key, ComponentProvider<T> provider) {
+        Map<Object, Object> instances = this.instances;
+        if (instances == null) throw new ScopeNotActiveException();
+        T instance = (T) instances.get(key);
+        if (instance != null) return instance;
+        lock.lock();
+        try {
+            instances = this.instances;
+            if (instances == null) throw new ScopeNotActiveException();
+            instance = (T) instances.get(key);
+            if (instance == null) {
+                instance = provider.get(this);
+                instances.put(key, instance);
+            }
+            return instance;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        instances = null;
+    }
+}
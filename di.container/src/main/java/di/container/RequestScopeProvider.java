@@ -0,0 +1,32 @@
+package di.container;
+
+import java.util.List;
+
+class RequestScopeProvider<T> implements ComponentProvider<T> {
+    private final ComponentProvider<T> provider;
+
+    public RequestScopeProvider(ComponentProvider<T> provider) {
+        this.provider = provider;
+    }
+
+    @Override
+    public T get(Context context) {
+        return get(context, provider);
+    }
+
+    @Override
+    public ComponentProvider<T> compile(Linker linker) {
+        ComponentProvider<T> compiled = provider.compile(linker);
+        return context -> get(context, compiled);
+    }
+
+    private T get(Context context, ComponentProvider<T> provider) {
+        if (!(context instanceof RequestScope scope)) throw new ScopeNotActiveException();
+        return scope.get(this, provider);
+    }
+
+    @Override
+    public List<ComponentRef<?>> getDependencies() {
+        return provider.getDependencies();
+    }
+}
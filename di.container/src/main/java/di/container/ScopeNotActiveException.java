@@ -0,0 +1,4 @@
+package di.container;
+
+public class ScopeNotActiveException extends RuntimeException {
+}
@@ -0,0 +1,42 @@
+package di.container;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+class ScopedProvider<T> implements ComponentProvider<T> {
+    private final Class<? extends Annotation> scope;
+    private final ScopeProvider scopeProvider;
+    private final ComponentProvider<?> provider;
+    private final ComponentProvider<T> scoped;
+
+    ScopedProvider(Class<? extends Annotation> scope, ScopeProvider scopeProvider, ComponentProvider<?> provider) {
+        this.scope = scope;
+        this.scopeProvider = scopeProvider;
+        this.provider = provider;
+        this.scoped = (ComponentProvider<T>) scopeProvider.create(provider);
+    }
+
+    static boolean isScoped(ComponentProvider<?> provider, Class<? extends Annotation> scope) {
+        return provider instanceof ScopedProvider<?> scoped && scoped.scope == scope;
+    }
+
+    @Override
+    public T get(Context context) {
+        return scoped.get(context);
+    }
+
+    @Override
+    public ComponentProvider<T> compile(Linker linker) {
+        return scoped.compile(linker);
+    }
+
+    @Override
+    public ComponentProvider<T> copy() {
+        return new ScopedProvider<>(scope, scopeProvider, provider.copy());
+    }
+
+    @Override
+    public List<ComponentRef<?>> getDependencies() {
+        return scoped.getDependencies();
+    }
+}
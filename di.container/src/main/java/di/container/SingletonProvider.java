@@ -1,8 +1,20 @@
 package di.container;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.List;
 
 class SingletonProvider<T> implements ComponentProvider<T> {
+    private static final VarHandle SINGLETON;
+
+    static {
+        try {
+            SINGLETON = MethodHandles.lookup().findVarHandle(SingletonProvider.class, "singleton", Object.class);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private T singleton;
     private final ComponentProvider<T> provider;
 
@@ -12,8 +24,26 @@ class SingletonProvider<T> implements ComponentProvider<T> {
 
     @Override
     public T get(Context context) {
-        if (singleton == null) singleton = provider.get(context);
-        return singleton;
+        return get(context, provider);
+    }
+
+    @Override
+    public ComponentProvider<T> compile(Linker linker) {
+        ComponentProvider<T> compiled = provider.compile(linker);
+        return context -> get(context, compiled);
+    }
+
+    private T get(Context context, ComponentProvider<T> provider) {
+        T instance = (T) SINGLETON.getAcquire(this);
+        if (instance != null) return instance;
+        synchronized (this) {
+            instance = singleton;
+            if (instance == null) {
+                instance = provider.get(context);
+                SINGLETON.setRelease(this, instance);
+            }
+            return instance;
+        }
     }
 
     @Override
@@ -0,0 +1,71 @@
+package di.container.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.*;
+
+@SupportedAnnotationTypes("*")
+public class ComponentIndexProcessor extends AbstractProcessor {
+    public static final String INDEX = "META-INF/di.container/components";
+
+    private static final String INJECT = "jakarta.inject.Inject";
+    private static final Set<String> META_ANNOTATIONS = Set.of("jakarta.inject.Scope", "jakarta.inject.Qualifier");
+
+    private final Map<String, String> components = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) index(type);
+        if (roundEnv.processingOver()) write();
+        return false;
+    }
+
+    private void index(TypeElement type) {
+        ElementFilter.typesIn(type.getEnclosedElements()).forEach(this::index);
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) return;
+        List<String> annotations = type.getAnnotationMirrors().stream().map(a -> (TypeElement) a.getAnnotationType().asElement())
+                .filter(ComponentIndexProcessor::isScopeOrQualifier).map(this::name).toList();
+        boolean injectable = type.getEnclosedElements().stream().anyMatch(member -> member.getAnnotationMirrors().stream()
+                .anyMatch(a -> ((TypeElement) a.getAnnotationType().asElement()).getQualifiedName().contentEquals(INJECT)));
+        if (annotations.isEmpty() && !injectable) return;
+
+        List<String> types = new ArrayList<>();
+        types.add(name(type));
+        for (TypeMirror face : type.getInterfaces())
+            types.add(name((TypeElement) ((DeclaredType) face).asElement()));
+        components.put(name(type), String.join(",", types) + "\t" + String.join(",", annotations));
+    }
+
+    private static boolean isScopeOrQualifier(TypeElement annotation) {
+        return annotation.getAnnotationMirrors().stream()
+                .anyMatch(m -> META_ANNOTATIONS.contains(((TypeElement) m.getAnnotationType().asElement()).getQualifiedName().toString()));
+    }
+
+    private String name(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private void write() {
+        if (components.isEmpty()) return;
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX).openWriter())) {
+            components.forEach((component, bindings) -> out.println(component + "\t" + bindings));
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write component index: " + e.getMessage());
+        }
+    }
+}
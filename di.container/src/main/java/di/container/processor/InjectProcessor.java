@@ -0,0 +1,203 @@
+package di.container.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.*;
+
+import static java.util.Collections.reverse;
+
+@SupportedAnnotationTypes("jakarta.inject.Inject")
+public class InjectProcessor extends AbstractProcessor {
+    public static final String SUFFIX = "_Factory";
+
+    private static final String INJECT = "jakarta.inject.Inject";
+    private static final String QUALIFIER = "jakarta.inject.Qualifier";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> components = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations)
+            for (Element member : roundEnv.getElementsAnnotatedWith(annotation))
+                if (member.getEnclosingElement() instanceof TypeElement type && type.getKind() == ElementKind.CLASS)
+                    components.add(type);
+        for (TypeElement component : components) {
+            Injection injection = injection(component);
+            if (injection != null) generate(component, injection);
+        }
+        return false;
+    }
+
+    private record Injection(ExecutableElement constructor, List<VariableElement> fields, List<ExecutableElement> methods) {
+    }
+
+    private Injection injection(TypeElement component) {
+        if (!isGeneratable(component)) return null;
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(component);
+
+        List<ExecutableElement> injectConstructors = ElementFilter.constructorsIn(component.getEnclosedElements()).stream()
+                .filter(c -> c.getModifiers().contains(Modifier.PUBLIC) && isInjectable(c)).toList();
+        if (injectConstructors.size() > 1) return null;
+        ExecutableElement constructor = injectConstructors.isEmpty() ? defaultConstructor(component) : injectConstructors.get(0);
+        if (constructor == null || !isAccessible(constructor, packageElement)) return null;
+
+        List<VariableElement> fields = new ArrayList<>();
+        List<ExecutableElement> methods = new ArrayList<>();
+        List<ExecutableElement> noInjectMethods = ElementFilter.methodsIn(component.getEnclosedElements()).stream()
+                .filter(m -> !isInjectable(m)).toList();
+        for (TypeElement current = component; current != null; current = superclass(current)) {
+            ElementFilter.fieldsIn(current.getEnclosedElements()).stream().filter(this::isInjectable).forEach(fields::add);
+            List<ExecutableElement> collected = List.copyOf(methods);
+            ElementFilter.methodsIn(current.getEnclosedElements()).stream().filter(this::isInjectable)
+                    .filter(m -> collected.stream().noneMatch(o -> isOverride(m, o)))
+                    .filter(m -> noInjectMethods.stream().noneMatch(o -> isOverride(m, o)))
+                    .forEach(methods::add);
+        }
+        reverse(methods);
+
+        if (fields.stream().anyMatch(f -> f.getModifiers().contains(Modifier.FINAL) || !isAccessible(f, packageElement)))
+            return null;
+        if (methods.stream().anyMatch(m -> !m.getTypeParameters().isEmpty() || !isAccessible(m, packageElement)))
+            return null;
+        List<Element> dependencies = new ArrayList<>(constructor.getParameters());
+        dependencies.addAll(fields);
+        methods.forEach(m -> dependencies.addAll(m.getParameters()));
+        if (dependencies.stream().anyMatch(d -> hasQualifier(d) || ref(d.asType()) == null)) return null;
+        return new Injection(constructor, fields, methods);
+    }
+
+    private static boolean isGeneratable(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT) || !type.getTypeParameters().isEmpty()) return false;
+        for (Element current = type; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) return false;
+            NestingKind nesting = ((TypeElement) current).getNestingKind();
+            if (nesting == NestingKind.LOCAL || nesting == NestingKind.ANONYMOUS) return false;
+            if (nesting == NestingKind.MEMBER && !current.getModifiers().contains(Modifier.STATIC)
+                    && current.getKind() == ElementKind.CLASS) return false;
+        }
+        return true;
+    }
+
+    private static ExecutableElement defaultConstructor(TypeElement component) {
+        return ElementFilter.constructorsIn(component.getEnclosedElements()).stream()
+                .filter(c -> c.getParameters().isEmpty()).findFirst().orElse(null);
+    }
+
+    private boolean isAccessible(Element member, PackageElement packageElement) {
+        if (member.getModifiers().contains(Modifier.PRIVATE)) return false;
+        TypeElement declaring = (TypeElement) member.getEnclosingElement();
+        if (processingEnv.getElementUtils().getPackageOf(declaring).equals(packageElement)) return true;
+        return member.getModifiers().contains(Modifier.PUBLIC) && declaring.getModifiers().contains(Modifier.PUBLIC);
+    }
+
+    private boolean isInjectable(Element element) {
+        return element.getAnnotationMirrors().stream()
+                .anyMatch(a -> ((TypeElement) a.getAnnotationType().asElement()).getQualifiedName().contentEquals(INJECT));
+    }
+
+    private static boolean hasQualifier(Element element) {
+        return element.getAnnotationMirrors().stream().anyMatch(a -> a.getAnnotationType().asElement().getAnnotationMirrors().stream()
+                .anyMatch(m -> ((TypeElement) m.getAnnotationType().asElement()).getQualifiedName().contentEquals(QUALIFIER)));
+    }
+
+    private boolean isOverride(ExecutableElement m, ExecutableElement o) {
+        if (!o.getSimpleName().equals(m.getSimpleName()) || o.getParameters().size() != m.getParameters().size()) return false;
+        for (int i = 0; i < m.getParameters().size(); i++)
+            if (!processingEnv.getTypeUtils().isSameType(erasure(o.getParameters().get(i).asType()), erasure(m.getParameters().get(i).asType())))
+                return false;
+        return true;
+    }
+
+    private static TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) return null;
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+    }
+
+    private TypeMirror erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type);
+    }
+
+    private String ref(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) return "di.container.ComponentRef.of(" + erasure(type) + ".class)";
+        if (type.getKind() != TypeKind.DECLARED) return null;
+        List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+        if (arguments.isEmpty()) return "di.container.ComponentRef.of(" + erasure(type) + ".class)";
+        if (arguments.get(0).getKind() != TypeKind.DECLARED) return null;
+        return "di.container.ComponentRef.ofContainer(" + erasure(type) + ".class, " + erasure(arguments.get(0)) + ".class)";
+    }
+
+    private void generate(TypeElement type, Injection injection) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)).replace('$', '_') + SUFFIX;
+        String typeName = type.getQualifiedName().toString();
+
+        List<String> refs = new ArrayList<>();
+        List<String> constructorArguments = arguments(injection.constructor().getParameters(), refs);
+
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(packageName.isEmpty() ? simpleName : packageName + "." + simpleName, type).openWriter())) {
+            if (!packageName.isEmpty()) out.println("package " + packageName + ";\n");
+            out.println("@javax.annotation.processing.Generated(\"" + InjectProcessor.class.getName() + "\")");
+            out.println("@SuppressWarnings(\"unchecked\")");
+            out.println("public final class " + simpleName + " implements di.container.ComponentProvider<" + typeName + "> {");
+            List<String> body = new ArrayList<>();
+            body.add("        " + typeName + " instance = new " + typeName + "(" + String.join(", ", constructorArguments) + ");");
+            for (VariableElement field : injection.fields())
+                body.add("        ((" + field.getEnclosingElement() + ") instance)." + field.getSimpleName() + " = " + arguments(List.of(field), refs).get(0) + ";");
+            for (ExecutableElement method : injection.methods())
+                body.add("        ((" + method.getEnclosingElement() + ") instance)." + method.getSimpleName() + "(" + String.join(", ", arguments(method.getParameters(), refs)) + ");");
+            out.println("    private static final java.util.List<di.container.ComponentRef<?>> DEPENDENCIES = java.util.List.of(" + String.join(", ", refs) + ");\n");
+            out.println("    private final di.container.ComponentProvider<?>[] providers;\n");
+            out.println("    public " + simpleName + "() {");
+            out.println("        this(null);");
+            out.println("    }\n");
+            out.println("    private " + simpleName + "(di.container.ComponentProvider<?>[] providers) {");
+            out.println("        this.providers = providers;");
+            out.println("    }\n");
+            out.println("    @Override");
+            out.println("    public " + typeName + " get(di.container.Context context) {");
+            body.forEach(out::println);
+            out.println("        return instance;");
+            out.println("    }\n");
+            out.println("    @Override");
+            out.println("    public java.util.List<di.container.ComponentRef<?>> getDependencies() {");
+            out.println("        return DEPENDENCIES;");
+            out.println("    }\n");
+            out.println("    @Override");
+            out.println("    public di.container.ComponentProvider<" + typeName + "> compile(di.container.Linker linker) {");
+            out.println("        return new " + simpleName + "(linker.link(DEPENDENCIES.toArray(di.container.ComponentRef<?>[]::new)));");
+            out.println("    }\n");
+            out.println("    private Object dependency(di.container.Context context, int index) {");
+            out.println("        return providers == null ? context.get(DEPENDENCIES.get(index)).get() : providers[index].get(context);");
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot generate component factory: " + e.getMessage(), type);
+        }
+    }
+
+    private List<String> arguments(List<? extends Element> dependencies, List<String> refs) {
+        List<String> arguments = new ArrayList<>();
+        for (Element dependency : dependencies) {
+            arguments.add("(" + dependency.asType() + ") dependency(context, " + refs.size() + ")");
+            refs.add(ref(dependency.asType()));
+        }
+        return arguments;
+    }
+}
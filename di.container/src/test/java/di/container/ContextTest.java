@@ -13,7 +13,10 @@ import java.lang.annotation.Annotation;
 import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -41,6 +44,33 @@ public class ContextTest {
             assertSame(instance, context.get(ComponentRef.of(TestComponent.class)).get());
         }
 
+        static class GeneratedComponent {
+            final Dependency dependency;
+            final boolean generated;
+
+            @Inject
+            public GeneratedComponent(Dependency dependency) {
+                this(dependency, false);
+            }
+
+            GeneratedComponent(Dependency dependency, boolean generated) {
+                this.dependency = dependency;
+                this.generated = generated;
+            }
+        }
+
+        @Test
+        public void should_use_generated_factory_if_present() {
+            Dependency dependency = new Dependency() {
+            };
+            config.bind(Dependency.class, dependency);
+            config.bind(GeneratedComponent.class, GeneratedComponent.class);
+
+            GeneratedComponent component = config.getContext().get(ComponentRef.of(GeneratedComponent.class)).get();
+            assertTrue(component.generated);
+            assertSame(dependency, component.dependency);
+        }
+
         @ParameterizedTest(name = "supporting {0}")
         @MethodSource
         public void should_bind_type_to_a_injectable_component(Class<? extends TestComponent> componentType) {
@@ -234,6 +264,289 @@ public class ContextTest {
                 assertSame(context.get(ComponentRef.of(SingletonAnnotated.class)).get(), context.get(ComponentRef.of(SingletonAnnotated.class)).get());
             }
 
+            static class SingletonConsumer {
+                @Inject
+                SingletonAnnotated singleton;
+            }
+
+            @Test
+            public void should_share_singleton_between_contexts_and_dependents() {
+                config.bind(SingletonAnnotated.class, SingletonAnnotated.class);
+                config.bind(SingletonConsumer.class, SingletonConsumer.class);
+                SingletonAnnotated singleton = config.getContext().get(ComponentRef.of(SingletonAnnotated.class)).get();
+                assertSame(singleton, config.getContext().get(ComponentRef.of(SingletonConsumer.class)).get().singleton);
+            }
+
+            @Singleton
+            static class ExpensiveSingleton {
+                static final AtomicInteger created = new AtomicInteger();
+
+                public ExpensiveSingleton() throws InterruptedException {
+                    created.incrementAndGet();
+                    Thread.sleep(10);
+                }
+            }
+
+            @Test
+            public void should_create_only_one_singleton_under_concurrent_first_access() throws Exception {
+                config.bind(ExpensiveSingleton.class, ExpensiveSingleton.class);
+                Context context = config.getContext();
+                ExpensiveSingleton.created.set(0);
+
+                ExecutorService executor = Executors.newFixedThreadPool(32);
+                CountDownLatch start = new CountDownLatch(1);
+                try {
+                    List<Future<ExpensiveSingleton>> instances = IntStream.range(0, 32).mapToObj(i -> executor.submit(() -> {
+                        start.await();
+                        return context.get(ComponentRef.of(ExpensiveSingleton.class)).get();
+                    })).toList();
+                    start.countDown();
+
+                    Set<ExpensiveSingleton> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+                    for (Future<ExpensiveSingleton> instance : instances) distinct.add(instance.get());
+                    assertEquals(1, distinct.size());
+                    assertEquals(1, ExpensiveSingleton.created.get());
+                } finally {
+                    executor.shutdown();
+                }
+            }
+
+            static final CountDownLatch independent = new CountDownLatch(2);
+
+            @Singleton
+            static class SlowSingleton {
+                public SlowSingleton() throws InterruptedException {
+                    independent.countDown();
+                    assertTrue(independent.await(5, TimeUnit.SECONDS));
+                }
+            }
+
+            @Singleton
+            static class AnotherSlowSingleton {
+                public AnotherSlowSingleton() throws InterruptedException {
+                    independent.countDown();
+                    assertTrue(independent.await(5, TimeUnit.SECONDS));
+                }
+            }
+
+            static class Prototype {
+                @Inject
+                SlowSingleton slow;
+            }
+
+            @Singleton
+            static class DependentSingleton {
+                static volatile boolean created;
+
+                @Inject
+                public DependentSingleton(Prototype prototype, AnotherSlowSingleton another) {
+                    assertEquals(0, independent.getCount());
+                    created = true;
+                }
+            }
+
+            @Test
+            public void should_warm_up_independent_singletons_in_parallel_in_dependency_order() {
+                config.bind(SlowSingleton.class, SlowSingleton.class);
+                config.bind(AnotherSlowSingleton.class, AnotherSlowSingleton.class);
+                config.bind(Prototype.class, Prototype.class);
+                config.bind(DependentSingleton.class, DependentSingleton.class);
+                List<Duration> elapsed = new ArrayList<>();
+
+                ForkJoinPool pool = new ForkJoinPool(4);
+                try {
+                    config.getContext(pool, elapsed::add);
+                } finally {
+                    pool.shutdown();
+                }
+
+                assertTrue(DependentSingleton.created);
+                assertEquals(1, elapsed.size());
+            }
+
+            @Test
+            public void should_rethrow_exception_from_singleton_warm_up() {
+                config.bind(FailingSingleton.class, FailingSingleton.class);
+                ForkJoinPool pool = new ForkJoinPool(1);
+                try {
+                    RuntimeException e = assertThrows(RuntimeException.class, () -> config.getContext(pool, elapsed -> {
+                    }));
+                    assertInstanceOf(IllegalStateException.class, e.getCause());
+                } finally {
+                    pool.shutdown();
+                }
+            }
+
+            @Singleton
+            static class FailingSingleton {
+                public FailingSingleton() {
+                    throw new IllegalStateException();
+                }
+            }
+
+            @RequestScoped
+            static class UnitOfWork {
+            }
+
+            static class Handler {
+                @Inject
+                UnitOfWork unitOfWork;
+            }
+
+            @Test
+            public void should_share_request_scoped_component_within_scope() {
+                config.bind(UnitOfWork.class, UnitOfWork.class);
+                config.bind(Handler.class, Handler.class);
+                Context context = config.getContext();
+
+                try (RequestScope scope = RequestScope.open(context)) {
+                    UnitOfWork unitOfWork = scope.get(ComponentRef.of(UnitOfWork.class)).get();
+                    assertSame(unitOfWork, scope.get(ComponentRef.of(UnitOfWork.class)).get());
+                    assertSame(unitOfWork, scope.get(ComponentRef.of(Handler.class)).get().unitOfWork);
+                }
+            }
+
+            @Test
+            public void should_create_request_scoped_component_per_scope() {
+                config.bind(UnitOfWork.class, UnitOfWork.class);
+                Context context = config.getContext();
+
+                UnitOfWork first, second;
+                try (RequestScope scope = RequestScope.open(context)) {
+                    first = scope.get(ComponentRef.of(UnitOfWork.class)).get();
+                }
+                try (RequestScope scope = RequestScope.open(context)) {
+                    second = scope.get(ComponentRef.of(UnitOfWork.class)).get();
+                }
+                assertNotSame(first, second);
+            }
+
+            @Test
+            public void should_throw_exception_if_request_scope_not_active() {
+                config.bind(UnitOfWork.class, UnitOfWork.class);
+                Context context = config.getContext();
+
+                assertThrows(ScopeNotActiveException.class, () -> context.get(ComponentRef.of(UnitOfWork.class)));
+                RequestScope scope = RequestScope.open(context);
+                scope.close();
+                assertThrows(ScopeNotActiveException.class, () -> scope.get(ComponentRef.of(UnitOfWork.class)));
+            }
+
+            @Test
+            public void should_share_request_scoped_component_between_threads_of_same_scope() throws Exception {
+                config.bind(UnitOfWork.class, UnitOfWork.class);
+                Context context = config.getContext();
+
+                ExecutorService executor = Executors.newFixedThreadPool(8);
+                try (RequestScope scope = RequestScope.open(context)) {
+                    List<Future<UnitOfWork>> instances = IntStream.range(0, 100)
+                            .mapToObj(i -> executor.submit(() -> scope.get(ComponentRef.of(UnitOfWork.class)).get())).toList();
+                    Set<UnitOfWork> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+                    for (Future<UnitOfWork> instance : instances) distinct.add(instance.get());
+                    assertEquals(1, distinct.size());
+                } finally {
+                    executor.shutdown();
+                }
+            }
+
+            @RequestScoped
+            static class SlowUnitOfWork {
+                static CountDownLatch started;
+                static CountDownLatch release;
+
+                public SlowUnitOfWork() throws InterruptedException {
+                    started.countDown();
+                    release.await();
+                }
+            }
+
+            @Test
+            public void should_not_wait_for_construction_to_return_cached_request_scoped_component() throws Exception {
+                config.bind(UnitOfWork.class, UnitOfWork.class);
+                config.bind(SlowUnitOfWork.class, SlowUnitOfWork.class);
+                Context context = config.getContext();
+                SlowUnitOfWork.started = new CountDownLatch(1);
+                SlowUnitOfWork.release = new CountDownLatch(1);
+
+                ExecutorService executor = Executors.newFixedThreadPool(2);
+                try (RequestScope scope = RequestScope.open(context)) {
+                    UnitOfWork unitOfWork = scope.get(ComponentRef.of(UnitOfWork.class)).get();
+                    executor.submit(() -> scope.get(ComponentRef.of(SlowUnitOfWork.class)));
+                    SlowUnitOfWork.started.await();
+
+                    assertSame(unitOfWork, executor.submit(() -> scope.get(ComponentRef.of(UnitOfWork.class)).get()).get(1, TimeUnit.SECONDS));
+                } finally {
+                    SlowUnitOfWork.release.countDown();
+                    executor.shutdown();
+                }
+            }
+
+            @Singleton
+            static class SingletonHandler {
+                @Inject
+                UnitOfWork unitOfWork;
+            }
+
+            @Singleton
+            static class SingletonWithHandler {
+                @Inject
+                Handler handler;
+            }
+
+            @Singleton
+            static class SingletonWithProvider {
+                @Inject
+                Provider<UnitOfWork> unitOfWork;
+            }
+
+            @Test
+            public void should_not_allow_singleton_to_depend_on_request_scoped_component() {
+                config.bind(UnitOfWork.class, UnitOfWork.class);
+                config.bind(SingletonHandler.class, SingletonHandler.class);
+
+                assertThrows(IllegalComponentException.class, () -> config.getContext());
+            }
+
+            @Test
+            public void should_not_allow_singleton_to_depend_on_request_scoped_component_transitively() {
+                config.bind(UnitOfWork.class, UnitOfWork.class);
+                config.bind(Handler.class, Handler.class);
+                config.bind(SingletonWithHandler.class, SingletonWithHandler.class);
+
+                assertThrows(IllegalComponentException.class, () -> config.getContext());
+            }
+
+            @Test
+            public void should_not_allow_singleton_to_depend_on_provider_of_request_scoped_component() {
+                config.bind(UnitOfWork.class, UnitOfWork.class);
+                config.bind(SingletonWithProvider.class, SingletonWithProvider.class);
+
+                assertThrows(IllegalComponentException.class, () -> config.getContext());
+            }
+
+            static class ProviderHandler {
+                @Inject
+                Provider<UnitOfWork> unitOfWork;
+            }
+
+            @Test
+            public void should_resolve_provider_of_request_scoped_component_in_scope_of_its_owner() {
+                config.bind(UnitOfWork.class, UnitOfWork.class);
+                config.bind(ProviderHandler.class, ProviderHandler.class);
+                Context context = config.getContext();
+
+                UnitOfWork first, second;
+                try (RequestScope scope = RequestScope.open(context)) {
+                    first = scope.get(ComponentRef.of(ProviderHandler.class)).get().unitOfWork.get();
+                    assertSame(scope.get(ComponentRef.of(UnitOfWork.class)).get(), first);
+                }
+                try (RequestScope scope = RequestScope.open(context)) {
+                    second = scope.get(ComponentRef.of(ProviderHandler.class)).get().unitOfWork.get();
+                    assertSame(scope.get(ComponentRef.of(UnitOfWork.class)).get(), second);
+                }
+                assertNotSame(first, second);
+            }
+
             @Nested
             public class WithQualifier {
                 @Test
@@ -461,6 +774,45 @@ public class ContextTest {
             }
         }
 
+        @Test
+        public void should_report_all_cyclic_dependencies() {
+            config.bind(TestComponent.class, CyclicComponentInjectConstructor.class);
+            config.bind(Dependency.class, CyclicDependencyInjectConstructor.class);
+            bindSynthetic(new NamedLiteral("a"), new NamedLiteral("b"));
+            bindSynthetic(new NamedLiteral("b"), new NamedLiteral("a"));
+
+            CyclicDependenciesFoundException exception = assertThrows(CyclicDependenciesFoundException.class, () -> config.getContext());
+
+            assertEquals(Set.of(TestComponent.class, Dependency.class, Object.class), new HashSet<>(asList(exception.getComponents())));
+            assertEquals(4, exception.getComponents().length);
+        }
+
+        @Test
+        public void should_validate_deep_dependency_chain() {
+            bindSynthetic(new NamedLiteral("0"));
+            for (int i = 1; i < 50_000; i++)
+                bindSynthetic(new NamedLiteral(String.valueOf(i)), new NamedLiteral(String.valueOf(i - 1)));
+
+            Context context = config.getContext();
+
+            assertTrue(context.get(ComponentRef.of(Object.class, new NamedLiteral("49999"))).isPresent());
+        }
+
+        private void bindSynthetic(Annotation qualifier, Annotation... dependencies) {
+            List<ComponentRef<?>> refs = Arrays.stream(dependencies).<ComponentRef<?>>map(d -> ComponentRef.of(Object.class, d)).toList();
+            config.bind(Object.class, List.of(qualifier), new ComponentProvider<Object>() {
+                @Override
+                public Object get(Context context) {
+                    return qualifier;
+                }
+
+                @Override
+                public List<ComponentRef<?>> getDependencies() {
+                    return refs;
+                }
+            });
+        }
+
         @Test
         public void should_not_throw_exception_if_cyclic_dependency_via_provider() {
             config.bind(TestComponent.class, CyclicComponentInjectConstructor.class);
@@ -510,6 +862,159 @@ public class ContextTest {
             }
         }
     }
+
+    @Nested
+    public class ChildContext {
+        @Test
+        public void should_inherit_bindings_and_singletons_from_parent() {
+            config.bind(TypeBinding.WithScope.SingletonAnnotated.class, TypeBinding.WithScope.SingletonAnnotated.class);
+            Object singleton = config.getContext().get(ComponentRef.of(TypeBinding.WithScope.SingletonAnnotated.class)).get();
+
+            Context child = config.child().getContext();
+
+            assertSame(singleton, child.get(ComponentRef.of(TypeBinding.WithScope.SingletonAnnotated.class)).get());
+        }
+
+        @Test
+        public void should_override_binding_in_child_without_changing_parent() {
+            Dependency parentDependency = new Dependency() {
+            };
+            Dependency childDependency = new Dependency() {
+            };
+            config.bind(Dependency.class, parentDependency);
+            config.bind(TestComponent.class, TypeBinding.ConstructorInjection.class, new SingletonLiteral());
+            ContextConfig child = config.child();
+            child.bind(Dependency.class, childDependency);
+
+            TestComponent inChild = child.getContext().get(ComponentRef.of(TestComponent.class)).get();
+            TestComponent inParent = config.getContext().get(ComponentRef.of(TestComponent.class)).get();
+
+            assertSame(childDependency, inChild.dependency());
+            assertSame(parentDependency, inParent.dependency());
+            assertSame(inChild, child.getContext().get(ComponentRef.of(TestComponent.class)).get());
+        }
+
+        @Test
+        public void should_recreate_custom_scoped_component_affected_by_override() {
+            Dependency parentDependency = new Dependency() {
+            };
+            Dependency childDependency = new Dependency() {
+            };
+            config.scope(Pooled.class, PooledProvider::new);
+            config.bind(Dependency.class, parentDependency);
+            config.bind(TestComponent.class, TypeBinding.ConstructorInjection.class, new PooledLiteral());
+            List<TestComponent> inParent = IntStream.range(0, PooledProvider.MAX)
+                    .mapToObj(i -> config.getContext().get(ComponentRef.of(TestComponent.class)).get()).toList();
+            ContextConfig child = config.child();
+            child.bind(Dependency.class, childDependency);
+
+            TestComponent inChild = child.getContext().get(ComponentRef.of(TestComponent.class)).get();
+
+            assertFalse(inParent.contains(inChild));
+            assertSame(childDependency, inChild.dependency());
+            assertTrue(inParent.stream().allMatch(component -> component.dependency() == parentDependency));
+        }
+
+        @Test
+        public void should_only_validate_components_affected_by_overrides() {
+            int[] scanned = new int[1];
+            config.bind(Dependency.class, new Dependency() {
+            });
+            config.bind(Object.class, List.of(), new ComponentProvider<Object>() {
+                @Override
+                public Object get(Context context) {
+                    return this;
+                }
+
+                @Override
+                public List<ComponentRef<?>> getDependencies() {
+                    scanned[0]++;
+                    return List.of();
+                }
+            });
+            config.getContext();
+            int scannedByParent = scanned[0];
+
+            ContextConfig child = config.child();
+            child.bind(Dependency.class, new Dependency() {
+            });
+            Context context = child.getContext();
+
+            assertEquals(scannedByParent, scanned[0]);
+            assertTrue(context.get(ComponentRef.of(Object.class)).isPresent());
+        }
+
+        @Test
+        public void should_throw_exception_if_override_dependency_not_found() {
+            config.bind(TestComponent.class, new TestComponent() {
+            });
+            ContextConfig child = config.child();
+            child.bind(TestComponent.class, DependencyCheck.MissingDependencyConstructor.class);
+
+            DependencyNotFoundException exception = assertThrows(DependencyNotFoundException.class, () -> child.getContext());
+            assertEquals(Dependency.class, exception.getDependency().type());
+            assertTrue(config.getContext().get(ComponentRef.of(TestComponent.class)).isPresent());
+        }
+
+        @Test
+        public void should_throw_exception_if_override_introduces_cycle() {
+            config.bind(Dependency.class, new Dependency() {
+            });
+            config.bind(TestComponent.class, DependencyCheck.CyclicComponentInjectConstructor.class);
+            config.getContext();
+            ContextConfig child = config.child();
+            child.bind(Dependency.class, DependencyCheck.CyclicDependencyInjectConstructor.class);
+
+            CyclicDependenciesFoundException exception = assertThrows(CyclicDependenciesFoundException.class, () -> child.getContext());
+            assertEquals(Set.of(TestComponent.class, Dependency.class), new HashSet<>(asList(exception.getComponents())));
+        }
+
+        @Test
+        public void should_see_parent_bindings_added_after_child_created() {
+            ContextConfig child = config.child();
+            Dependency dependency = new Dependency() {
+            };
+            config.bind(Dependency.class, dependency);
+            assertSame(dependency, child.getContext().get(ComponentRef.of(Dependency.class)).get());
+        }
+    }
+
+    @Nested
+    public class LazyBinding {
+        @BeforeEach
+        public void setUp() {
+            config = new ContextConfig(true);
+        }
+
+        @Test
+        public void should_inject_lazily_bound_component() {
+            Dependency dependency = new Dependency() {
+            };
+            config.bind(Dependency.class, dependency);
+            config.bind(TestComponent.class, TypeBinding.ConstructorInjection.class, new SingletonLiteral());
+
+            Context context = config.getContext();
+
+            assertSame(dependency, context.get(ComponentRef.of(TestComponent.class)).get().dependency());
+            assertSame(context.get(ComponentRef.of(TestComponent.class)).get(), context.get(ComponentRef.of(TestComponent.class)).get());
+        }
+
+        abstract static class AbstractComponent implements TestComponent {
+        }
+
+        @Test
+        public void should_throw_exception_for_illegal_component_when_context_created() {
+            config.bind(TestComponent.class, AbstractComponent.class);
+            assertThrows(IllegalComponentException.class, () -> config.getContext());
+        }
+
+        @Test
+        public void should_check_dependencies_of_lazily_bound_component() {
+            config.bind(TestComponent.class, DependencyCheck.MissingDependencyField.class);
+            DependencyNotFoundException exception = assertThrows(DependencyNotFoundException.class, () -> config.getContext());
+            assertEquals(Dependency.class, exception.getDependency().type());
+        }
+    }
 }
 
 record NamedLiteral(String value) implements jakarta.inject.Named {
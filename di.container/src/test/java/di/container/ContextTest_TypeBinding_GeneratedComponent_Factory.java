@@ -0,0 +1,36 @@
+package di.container;
+
+import java.util.List;
+
+public final class ContextTest_TypeBinding_GeneratedComponent_Factory implements ComponentProvider<ContextTest.TypeBinding.GeneratedComponent> {
+    private static final List<ComponentRef<?>> DEPENDENCIES = List.of(ComponentRef.of(Dependency.class));
+
+    private final ComponentProvider<?>[] providers;
+
+    public ContextTest_TypeBinding_GeneratedComponent_Factory() {
+        this(null);
+    }
+
+    private ContextTest_TypeBinding_GeneratedComponent_Factory(ComponentProvider<?>[] providers) {
+        this.providers = providers;
+    }
+
+    @Override
+    public ContextTest.TypeBinding.GeneratedComponent get(Context context) {
+        return new ContextTest.TypeBinding.GeneratedComponent((Dependency) dependency(context, 0), true);
+    }
+
+    @Override
+    public List<ComponentRef<?>> getDependencies() {
+        return DEPENDENCIES;
+    }
+
+    @Override
+    public ComponentProvider<ContextTest.TypeBinding.GeneratedComponent> compile(Linker linker) {
+        return new ContextTest_TypeBinding_GeneratedComponent_Factory(linker.link(DEPENDENCIES.toArray(ComponentRef<?>[]::new)));
+    }
+
+    private Object dependency(Context context, int index) {
+        return providers == null ? context.get(DEPENDENCIES.get(index)).get() : providers[index].get(context);
+    }
+}
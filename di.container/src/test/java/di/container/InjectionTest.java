@@ -30,6 +30,13 @@ public class InjectionTest {
         when(context.get(eq(ComponentRef.of(dependencyProviderType)))).thenReturn(Optional.of(dependencyProvider));
     }
 
+    @Test
+    public void should_share_injection_metadata_between_providers_of_same_class() {
+        InjectionProvider<ConstructorInjection.Injection.InjectConstructor> first = new InjectionProvider<>(ConstructorInjection.Injection.InjectConstructor.class);
+        InjectionProvider<ConstructorInjection.Injection.InjectConstructor> second = new InjectionProvider<>(ConstructorInjection.Injection.InjectConstructor.class);
+        assertSame(first.getDependencies(), second.getDependencies());
+    }
+
     @Nested
     public class ConstructorInjection {
         @Nested
@@ -322,6 +329,44 @@ public class InjectionTest {
                 assertSame(dependency, component.dependency);
             }
 
+            static class InjectMethodWithReturnValue {
+                Dependency dependency;
+
+                @Inject
+                Dependency install(Dependency dependency) {
+                    return this.dependency = dependency;
+                }
+            }
+
+            @Test
+            public void should_inject_dependency_via_inject_method_with_return_value() {
+                InjectMethodWithReturnValue component = new InjectionProvider<>(InjectMethodWithReturnValue.class).get(context);
+                assertSame(dependency, component.dependency);
+            }
+
+            static class StaticInjectMethod {
+                static Dependency dependency;
+
+                @Inject
+                static void install(Dependency dependency) {
+                    StaticInjectMethod.dependency = dependency;
+                }
+            }
+
+            @Test
+            public void should_inject_dependency_via_static_inject_method() {
+                new InjectionProvider<>(StaticInjectMethod.class).get(context);
+                assertSame(dependency, StaticInjectMethod.dependency);
+            }
+
+            @Test
+            public void should_fall_back_to_reflection_if_injector_not_available() throws NoSuchMethodException {
+                InjectMethodWithDependency component = new InjectMethodWithDependency();
+                new InjectionProvider.Injectable<>(InjectMethodWithDependency.class.getDeclaredMethod("install", Dependency.class), new ComponentRef<?>[0], null)
+                        .inject(component, new Object[]{dependency});
+                assertSame(dependency, component.dependency);
+            }
+
             static class SupperClassWithInjectMethod {
                 int supperCalled = 0;
 
@@ -0,0 +1,156 @@
+package di.container.processor;
+
+import di.container.ComponentRef;
+import di.container.Context;
+import di.container.ContextConfig;
+import di.container.IllegalComponentException;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ComponentIndexProcessorTest {
+    private static final String SOURCE = """
+            package sample;
+
+            import jakarta.inject.Inject;
+            import jakarta.inject.Named;
+            import jakarta.inject.Singleton;
+
+            public class Components {
+                public interface Api {
+                }
+
+                @Singleton
+                public static class Service implements Api {
+                    public final Repository repository;
+
+                    @Inject
+                    public Service(Repository repository) {
+                        this.repository = repository;
+                    }
+                }
+
+                public static class Repository {
+                    @Inject
+                    public Repository() {
+                    }
+                }
+
+                @Named("audit")
+                public static class AuditRepository extends Repository {
+                }
+
+                @Deprecated
+                public static class NotComponent {
+                }
+            }
+            """;
+
+    @Test
+    public void should_write_index_of_components_with_scopes_and_qualifiers() throws Exception {
+        Path output = compile("sample.Components", SOURCE);
+
+        assertEquals(List.of(
+                        "sample.Components$AuditRepository\tsample.Components$AuditRepository\tjakarta.inject.Named",
+                        "sample.Components$Repository\tsample.Components$Repository\t",
+                        "sample.Components$Service\tsample.Components$Service,sample.Components$Api\tjakarta.inject.Singleton"),
+                Files.readAllLines(output.resolve(ComponentIndexProcessor.INDEX)));
+    }
+
+    @Test
+    public void should_bind_components_from_index() throws Exception {
+        Path output = compile("sample.Components", SOURCE);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            ContextConfig config = new ContextConfig();
+            config.bindIndexed(loader);
+            Context context = config.getContext();
+
+            Class<?> api = loader.loadClass("sample.Components$Api");
+            Class<?> service = loader.loadClass("sample.Components$Service");
+            Object component = context.get(ComponentRef.of(api)).get();
+            assertSame(service, component.getClass());
+            assertSame(component, context.get(ComponentRef.of(service)).get());
+            assertNotNull(service.getField("repository").get(component));
+            assertFalse(context.get(ComponentRef.of(loader.loadClass("sample.Components$NotComponent"))).isPresent());
+        }
+    }
+
+    @Test
+    public void should_skip_interface_shared_by_indexed_components() throws Exception {
+        Path output = compile("sample.Tasks", """
+                package sample;
+
+                import jakarta.inject.Inject;
+
+                public class Tasks {
+                    public static class Cleanup implements Runnable {
+                        @Inject
+                        public Cleanup() {
+                        }
+
+                        public void run() {
+                        }
+                    }
+
+                    public static class Report implements Runnable {
+                        @Inject
+                        public Report() {
+                        }
+
+                        public void run() {
+                        }
+                    }
+                }
+                """);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            ContextConfig config = new ContextConfig();
+            config.bindIndexed(loader);
+            Context context = config.getContext();
+
+            assertTrue(context.get(ComponentRef.of(loader.loadClass("sample.Tasks$Cleanup"))).isPresent());
+            assertTrue(context.get(ComponentRef.of(loader.loadClass("sample.Tasks$Report"))).isPresent());
+            assertFalse(context.get(ComponentRef.of(Runnable.class)).isPresent());
+        }
+    }
+
+    @Test
+    public void should_not_bind_indexed_components_sharing_same_qualifier() throws Exception {
+        Path output = compile("sample.Tasks", """
+                package sample;
+
+                import jakarta.inject.Inject;
+                import jakarta.inject.Named;
+
+                public class Tasks {
+                    @Named("task")
+                    public static class Cleanup implements Runnable {
+                        public void run() {
+                        }
+                    }
+
+                    @Named("task")
+                    public static class Report implements Runnable {
+                        public void run() {
+                        }
+                    }
+                }
+                """);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            ContextConfig config = new ContextConfig();
+            assertThrows(IllegalComponentException.class, () -> config.bindIndexed(loader));
+        }
+    }
+
+    private static Path compile(String className, String source) throws Exception {
+        return ProcessorCompiler.compile(new ComponentIndexProcessor(), className, source);
+    }
+}
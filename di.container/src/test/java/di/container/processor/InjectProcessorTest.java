@@ -0,0 +1,187 @@
+package di.container.processor;
+
+import di.container.ComponentProvider;
+import di.container.ComponentRef;
+import di.container.ContextConfig;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InjectProcessorTest {
+    @Test
+    public void should_generate_factory_for_injectable_component() throws Exception {
+        Path output = compile("sample.Service", """
+                package sample;
+
+                import jakarta.inject.Inject;
+                import jakarta.inject.Provider;
+
+                public class Service {
+                    public final Repository repository;
+                    @Inject
+                    Provider<Repository> provider;
+                    Repository installed;
+
+                    @Inject
+                    public Service(Repository repository) {
+                        this.repository = repository;
+                    }
+
+                    @Inject
+                    void install(Repository repository) {
+                        this.installed = repository;
+                    }
+
+                    public static class Repository {
+                    }
+
+                    public Object provided() {
+                        return provider.get();
+                    }
+
+                    public Object installed() {
+                        return installed;
+                    }
+                }
+                """);
+
+        assertTrue(Files.exists(output.resolve("sample/Service_Factory.class")));
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> service = loader.loadClass("sample.Service");
+            Class<Object> repository = (Class<Object>) loader.loadClass("sample.Service$Repository");
+            Object factory = loader.loadClass("sample.Service_Factory").getDeclaredConstructor().newInstance();
+            assertEquals(List.of(ComponentRef.of(repository), ComponentRef.ofContainer(jakarta.inject.Provider.class, repository), ComponentRef.of(repository)),
+                    ((di.container.ComponentProvider<?>) factory).getDependencies());
+
+            Object instance = repository.getDeclaredConstructor().newInstance();
+            ContextConfig config = new ContextConfig();
+            config.bind(repository, instance);
+            bindImplementation(config, service);
+            Object component = config.getContext().get(ComponentRef.of(service)).get();
+
+            assertSame(instance, service.getField("repository").get(component));
+            assertSame(instance, service.getMethod("provided").invoke(component));
+            assertSame(instance, service.getMethod("installed").invoke(component));
+        }
+    }
+
+    @Test
+    public void should_resolve_dependencies_through_linked_providers_once_compiled() throws Exception {
+        Path output = compile("sample.Client", """
+                package sample;
+
+                import jakarta.inject.Inject;
+
+                public class Client {
+                    public final String name;
+
+                    @Inject
+                    public Client(String name) {
+                        this.name = name;
+                    }
+                }
+                """);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> client = loader.loadClass("sample.Client");
+            ComponentProvider<?> factory = (ComponentProvider<?>) loader.loadClass("sample.Client_Factory").getDeclaredConstructor().newInstance();
+            ComponentProvider<?> compiled = factory.compile(ref -> context -> "linked");
+
+            assertEquals("linked", client.getField("name").get(compiled.get(null)));
+        }
+    }
+
+    @Test
+    public void should_follow_inject_method_override_rules() throws Exception {
+        Path output = compile("sample.Sub", """
+                package sample;
+
+                import jakarta.inject.Inject;
+
+                class Super {
+                    int superCalled;
+                    int overridden;
+
+                    @Inject
+                    void setup() {
+                        superCalled++;
+                    }
+
+                    @Inject
+                    void reset() {
+                        overridden++;
+                    }
+                }
+
+                public class Sub extends Super {
+                    @Inject
+                    void setup() {
+                        superCalled += 10;
+                    }
+
+                    void reset() {
+                    }
+
+                    public int called() {
+                        return superCalled * 100 + overridden;
+                    }
+                }
+                """);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> sub = loader.loadClass("sample.Sub");
+            Object factory = loader.loadClass("sample.Sub_Factory").getDeclaredConstructor().newInstance();
+            Object component = ((di.container.ComponentProvider<?>) factory).get(null);
+            assertEquals(1000, sub.getMethod("called").invoke(component));
+        }
+    }
+
+    @Test
+    public void should_not_generate_factory_if_qualifier_present() throws Exception {
+        Path output = compile("sample.Qualified", """
+                package sample;
+
+                import jakarta.inject.Inject;
+                import jakarta.inject.Named;
+
+                public class Qualified {
+                    @Inject
+                    @Named("one")
+                    Object dependency;
+                }
+                """);
+
+        assertTrue(Files.exists(output.resolve("sample/Qualified.class")));
+        assertFalse(Files.exists(output.resolve("sample/Qualified_Factory.class")));
+    }
+
+    @Test
+    public void should_not_generate_factory_if_inject_field_is_private() throws Exception {
+        Path output = compile("sample.PrivateField", """
+                package sample;
+
+                import jakarta.inject.Inject;
+
+                public class PrivateField {
+                    @Inject
+                    private Object dependency;
+                }
+                """);
+
+        assertFalse(Files.exists(output.resolve("sample/PrivateField_Factory.class")));
+    }
+
+    private static <T> void bindImplementation(ContextConfig config, Class<T> type) {
+        config.bind(type, type);
+    }
+
+    private static Path compile(String className, String source) throws Exception {
+        return ProcessorCompiler.compile(new InjectProcessor(), className, source);
+    }
+}
@@ -0,0 +1,31 @@
+package di.container.processor;
+
+import javax.annotation.processing.Processor;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProcessorCompiler {
+    static Path compile(Processor processor, String className, String source) throws Exception {
+        Path output = Files.createTempDirectory("di-processor");
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, null,
+                List.of("-d", output.toString(), "-classpath", System.getProperty("java.class.path")), null, List.of(file));
+        task.setProcessors(List.of(processor));
+        assertTrue(task.call());
+        return output;
+    }
+}